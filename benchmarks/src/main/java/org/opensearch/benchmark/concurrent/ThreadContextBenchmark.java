@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.concurrent;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.tasks.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+@Fork(3)
+@Warmup(iterations = 10)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class ThreadContextBenchmark {
+
+    private ThreadContext threadContext;
+
+    @Setup
+    public void setUp() {
+        threadContext = new ThreadContext(Settings.EMPTY);
+        threadContext.putHeader(Task.X_OPAQUE_ID, "benchmark");
+    }
+
+    @Benchmark
+    public Object stashContext() {
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putTransient("transient", "value");
+            return threadContext.getTransient("transient");
+        }
+    }
+
+    @Benchmark
+    public Object stashAndMergeNoHeaders() {
+        try (ThreadContext.StoredContext ignored = threadContext.stashAndMergeHeaders(Collections.emptyMap())) {
+            return threadContext.getHeader(Task.X_OPAQUE_ID);
+        }
+    }
+
+    @Benchmark
+    public Object preserveContext() {
+        Runnable runnable = threadContext.preserveContext(() -> {});
+        runnable.run();
+        return runnable;
+    }
+}
@@ -168,23 +168,11 @@ public final class GeoIpProcessor extends AbstractProcessor {
         final InetAddress ipAddress = InetAddresses.forString(ip);
         Map<String, Object> geoData;
         if (databaseType.endsWith(CITY_DB_SUFFIX)) {
-            try {
-                geoData = retrieveCityGeoData(ipAddress);
-            } catch (AddressNotFoundRuntimeException e) {
-                geoData = Collections.emptyMap();
-            }
+            geoData = retrieveCityGeoData(ipAddress);
         } else if (databaseType.endsWith(COUNTRY_DB_SUFFIX)) {
-            try {
-                geoData = retrieveCountryGeoData(ipAddress);
-            } catch (AddressNotFoundRuntimeException e) {
-                geoData = Collections.emptyMap();
-            }
+            geoData = retrieveCountryGeoData(ipAddress);
         } else if (databaseType.endsWith(ASN_DB_SUFFIX)) {
-            try {
-                geoData = retrieveAsnGeoData(ipAddress);
-            } catch (AddressNotFoundRuntimeException e) {
-                geoData = Collections.emptyMap();
-            }
+            geoData = retrieveAsnGeoData(ipAddress);
         } else {
             throw new OpenSearchParseException("Unsupported database type [" + lazyLoader.getDatabaseType()
                 + "]", new IllegalStateException());
@@ -220,11 +208,14 @@ public final class GeoIpProcessor extends AbstractProcessor {
                 try {
                     return lazyLoader.get().city(ip);
                 } catch (AddressNotFoundException e) {
-                    throw new AddressNotFoundRuntimeException(e);
+                    return null;
                 } catch (Exception e) {
                     throw new RuntimeException(e);
                 }
             }));
+        if (response == null) {
+            return Collections.emptyMap();
+        }
 
         Country country = response.getCountry();
         City city = response.getCity();
@@ -306,11 +297,14 @@ public final class GeoIpProcessor extends AbstractProcessor {
                 try {
                     return lazyLoader.get().country(ip);
                 } catch (AddressNotFoundException e) {
-                    throw new AddressNotFoundRuntimeException(e);
+                    return null;
                 } catch (Exception e) {
                     throw new RuntimeException(e);
                 }
             }));
+        if (response == null) {
+            return Collections.emptyMap();
+        }
 
         Country country = response.getCountry();
         Continent continent = response.getContinent();
@@ -351,11 +345,14 @@ public final class GeoIpProcessor extends AbstractProcessor {
                 try {
                     return lazyLoader.get().asn(ip);
                 } catch (AddressNotFoundException e) {
-                    throw new AddressNotFoundRuntimeException(e);
+                    return null;
                 } catch (Exception e) {
                     throw new RuntimeException(e);
                 }
             }));
+        if (response == null) {
+            return Collections.emptyMap();
+        }
 
         Integer asn = response.getAutonomousSystemNumber();
         String organization_name = response.getAutonomousSystemOrganization();
@@ -461,17 +458,6 @@ public final class GeoIpProcessor extends AbstractProcessor {
         }
     }
 
-    // Geoip2's AddressNotFoundException is checked and due to the fact that we need run their code
-    // inside a PrivilegedAction code block, we are forced to catch any checked exception and rethrow
-    // it with an unchecked exception.
-    //package private for testing
-    static final class AddressNotFoundRuntimeException extends RuntimeException {
-
-        AddressNotFoundRuntimeException(Throwable cause) {
-            super(cause);
-        }
-    }
-
     enum Property {
 
         IP,
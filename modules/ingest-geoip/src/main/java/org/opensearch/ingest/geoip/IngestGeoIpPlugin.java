@@ -184,34 +184,50 @@ public class IngestGeoIpPlugin extends Plugin implements IngestPlugin, Closeable
      * reduction of CPU usage.
      */
     static class GeoIpCache {
-        private final Cache<CacheKey<?>, AbstractResponse> cache;
+        /**
+         * Marker cached for addresses that are not present in the database, so that looking them up again doesn't need to search the
+         * database. Lookups of private and otherwise unknown addresses are common and would otherwise never be served by the cache.
+         */
+        private static final Object NO_RESPONSE = new Object();
+
+        private final Cache<CacheKey<?>, Object> cache;
 
         //package private for testing
         GeoIpCache(long maxSize) {
             if (maxSize < 0) {
                 throw new IllegalArgumentException("geoip max cache size must be 0 or greater");
             }
-            this.cache = CacheBuilder.<CacheKey<?>, AbstractResponse>builder().setMaximumWeight(maxSize).build();
+            this.cache = CacheBuilder.<CacheKey<?>, Object>builder().setMaximumWeight(maxSize).build();
         }
 
+        /**
+         * Returns the cached response for the given address or retrieves and caches it. The retrieve function returns {@code null} if
+         * the address is not found in the database, which is cached as well and results in {@code null} being returned.
+         */
         <T extends AbstractResponse> T putIfAbsent(InetAddress ip, Class<T> responseType,
                                                    Function<InetAddress, AbstractResponse> retrieveFunction) {
 
             //can't use cache.computeIfAbsent due to the elevated permissions for the jackson (run via the cache loader)
             CacheKey<T> cacheKey = new CacheKey<>(ip, responseType);
             //intentionally non-locking for simplicity...it's OK if we re-put the same key/value in the cache during a race condition.
-            AbstractResponse response = cache.get(cacheKey);
+            Object response = cache.get(cacheKey);
             if (response == null) {
                 response = retrieveFunction.apply(ip);
-                cache.put(cacheKey, response);
+                cache.put(cacheKey, response == null ? NO_RESPONSE : response);
             }
-            return responseType.cast(response);
+            return response == NO_RESPONSE ? null : responseType.cast(response);
         }
 
         //only useful for testing
         <T extends AbstractResponse> T get(InetAddress ip, Class<T> responseType) {
             CacheKey<T> cacheKey = new CacheKey<>(ip, responseType);
-            return responseType.cast(cache.get(cacheKey));
+            Object response = cache.get(cacheKey);
+            return response == NO_RESPONSE ? null : responseType.cast(response);
+        }
+
+        //only useful for testing
+        boolean contains(InetAddress ip, Class<? extends AbstractResponse> responseType) {
+            return cache.get(new CacheKey<>(ip, responseType)) != null;
         }
 
          /**
@@ -37,6 +37,8 @@ import org.opensearch.common.network.InetAddresses;
 import org.opensearch.ingest.geoip.IngestGeoIpPlugin.GeoIpCache;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.mockito.Mockito.mock;
 
 public class IngestGeoIpPluginTests extends OpenSearchTestCase {
@@ -62,6 +64,22 @@ public class IngestGeoIpPluginTests extends OpenSearchTestCase {
         assertNotSame(response1, cache.get(InetAddresses.forString("127.0.0.1"), AbstractResponse.class));
     }
 
+    public void testCachesNotFoundResults() {
+        GeoIpCache cache = new GeoIpCache(1);
+        AtomicInteger lookups = new AtomicInteger();
+        assertNull(cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class, ip -> {
+            lookups.incrementAndGet();
+            return null;
+        }));
+        assertTrue(cache.contains(InetAddresses.forString("127.0.0.1"), AbstractResponse.class));
+        assertNull(cache.get(InetAddresses.forString("127.0.0.1"), AbstractResponse.class));
+        assertNull(cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class, ip -> {
+            lookups.incrementAndGet();
+            return null;
+        }));
+        assertEquals(1, lookups.get());
+    }
+
     public void testThrowsFunctionsException() {
         GeoIpCache cache = new GeoIpCache(1);
         IllegalArgumentException ex = expectThrows(IllegalArgumentException.class,
@@ -97,8 +97,18 @@ class Netty4HttpClient implements Closeable {
     }
 
     private final Bootstrap clientBootstrap;
+    private final boolean decompress;
 
     Netty4HttpClient() {
+        this(true);
+    }
+
+    /**
+     * @param decompress whether to decompress the responses, if {@code false} they are returned as received, with their
+     *                   {@code Content-Encoding} header
+     */
+    Netty4HttpClient(boolean decompress) {
+        this.decompress = decompress;
         clientBootstrap = new Bootstrap()
             .channel(NettyAllocator.getChannelType())
             .option(ChannelOption.ALLOCATOR, NettyAllocator.getAllocator())
@@ -152,7 +162,7 @@ class Netty4HttpClient implements Closeable {
         final CountDownLatch latch = new CountDownLatch(requests.size());
         final List<FullHttpResponse> content = Collections.synchronizedList(new ArrayList<>(requests.size()));
 
-        clientBootstrap.handler(new CountDownLatchHandler(latch, content));
+        clientBootstrap.handler(new CountDownLatchHandler(latch, content, decompress));
 
         ChannelFuture channelFuture = null;
         try {
@@ -187,10 +197,12 @@ class Netty4HttpClient implements Closeable {
 
         private final CountDownLatch latch;
         private final Collection<FullHttpResponse> content;
+        private final boolean decompress;
 
-        CountDownLatchHandler(final CountDownLatch latch, final Collection<FullHttpResponse> content) {
+        CountDownLatchHandler(final CountDownLatch latch, final Collection<FullHttpResponse> content, final boolean decompress) {
             this.latch = latch;
             this.content = content;
+            this.decompress = decompress;
         }
 
         @Override
@@ -198,7 +210,9 @@ class Netty4HttpClient implements Closeable {
             final int maxContentLength = new ByteSizeValue(100, ByteSizeUnit.MB).bytesAsInt();
             ch.pipeline().addLast(new HttpResponseDecoder());
             ch.pipeline().addLast(new HttpRequestEncoder());
-            ch.pipeline().addLast(new HttpContentDecompressor());
+            if (decompress) {
+                ch.pipeline().addLast(new HttpContentDecompressor());
+            }
             ch.pipeline().addLast(new HttpObjectAggregator(maxContentLength));
             ch.pipeline().addLast(new SimpleChannelInboundHandler<HttpObject>() {
                 @Override
@@ -104,6 +104,7 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 
 /**
  * Tests for the {@link Netty4HttpServerTransport} class.
@@ -347,6 +348,68 @@ public class Netty4HttpServerTransportTests extends OpenSearchTestCase {
         }
     }
 
+    public void testCompressionMinSize() throws InterruptedException {
+        final String smallResponse = randomAlphaOfLengthBetween(1, 511);
+        final String largeResponse = randomAlphaOfLengthBetween(2048, 8192);
+        final HttpServerTransport.Dispatcher dispatcher = new HttpServerTransport.Dispatcher() {
+
+            @Override
+            public void dispatchRequest(final RestRequest request, final RestChannel channel, final ThreadContext threadContext) {
+                if ("/small".equals(request.uri())) {
+                    channel.sendResponse(new BytesRestResponse(OK, smallResponse));
+                } else if ("/large".equals(request.uri())) {
+                    channel.sendResponse(new BytesRestResponse(OK, largeResponse));
+                } else {
+                    logger.error("--> Unexpected successful uri [{}]", request.uri());
+                    throw new AssertionError();
+                }
+            }
+
+            @Override
+            public void dispatchBadRequest(final RestChannel channel, final ThreadContext threadContext, final Throwable cause) {
+                logger.error(new ParameterizedMessage("--> Unexpected bad request [{}]",
+                    FakeRestRequest.requestToString(channel.request())), cause);
+                throw new AssertionError();
+            }
+
+        };
+
+        final Settings settings = Settings.builder()
+            .put(HttpTransportSettings.SETTING_HTTP_COMPRESSION.getKey(), true)
+            .put(HttpTransportSettings.SETTING_HTTP_COMPRESSION_MIN_SIZE.getKey(), "1kb")
+            .build();
+        try (Netty4HttpServerTransport transport = new Netty4HttpServerTransport(
+            settings, networkService, bigArrays, threadPool, xContentRegistry(), dispatcher, clusterSettings,
+            new SharedGroupFactory(settings))) {
+            transport.start();
+            final TransportAddress remoteAddress = randomFrom(transport.boundAddress().boundAddresses());
+
+            try (Netty4HttpClient client = new Netty4HttpClient(false)) {
+                DefaultFullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/small");
+                request.headers().add(HttpHeaderNames.ACCEPT_ENCODING, HttpHeaderValues.GZIP);
+                FullHttpResponse response = client.send(remoteAddress.address(), request);
+                try {
+                    assertThat(response.status(), equalTo(HttpResponseStatus.OK));
+                    assertFalse(response.headers().contains(HttpHeaderNames.CONTENT_ENCODING));
+                    assertThat(response.content().toString(StandardCharsets.UTF_8), equalTo(smallResponse));
+                } finally {
+                    response.release();
+                }
+
+                request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/large");
+                request.headers().add(HttpHeaderNames.ACCEPT_ENCODING, HttpHeaderValues.GZIP);
+                response = client.send(remoteAddress.address(), request);
+                try {
+                    assertThat(response.status(), equalTo(HttpResponseStatus.OK));
+                    assertThat(response.headers().get(HttpHeaderNames.CONTENT_ENCODING), equalTo(HttpHeaderValues.GZIP.toString()));
+                    assertThat(response.content().readableBytes(), lessThan(largeResponse.length()));
+                } finally {
+                    response.release();
+                }
+            }
+        }
+    }
+
     private long getHugeAllocationCount() {
         long numOfHugAllocations = 0;
         ByteBufAllocator allocator = NettyAllocator.getAllocator();
@@ -87,7 +87,8 @@ public class HttpReadWriteHandler implements NioChannelHandler {
         handlers.add(new HttpResponseEncoder());
         handlers.add(new HttpObjectAggregator(settings.getMaxContentLength()));
         if (settings.isCompression()) {
-            handlers.add(new HttpContentCompressor(settings.getCompressionLevel()));
+            // window bits and memory level are Netty's defaults
+            handlers.add(new HttpContentCompressor(settings.getCompressionLevel(), 15, 8, settings.getCompressionMinSize()));
         }
         handlers.add(new NioHttpRequestCreator());
         handlers.add(new NioHttpResponseCreator());
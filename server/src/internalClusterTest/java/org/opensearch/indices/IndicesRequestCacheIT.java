@@ -46,6 +46,8 @@ import org.opensearch.search.aggregations.bucket.global.GlobalAggregationBuilder
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
 import org.opensearch.search.aggregations.bucket.histogram.Histogram;
 import org.opensearch.search.aggregations.bucket.histogram.Histogram.Bucket;
+import org.opensearch.search.suggest.SuggestBuilder;
+import org.opensearch.search.suggest.SuggestBuilders;
 import org.opensearch.test.OpenSearchIntegTestCase;
 import org.opensearch.test.hamcrest.OpenSearchAssertions;
 
@@ -487,6 +489,32 @@ public class IndicesRequestCacheIT extends OpenSearchIntegTestCase {
         }
     }
 
+    public void testSuggestOnlyRequestCache() throws Exception {
+        Client client = client();
+        Settings settings = Settings.builder().put(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING.getKey(), true)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1).put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0).build();
+        assertAcked(client.admin().indices().prepareCreate("index").addMapping("type", "suggest", "type=completion")
+            .setSettings(settings).get());
+        indexRandom(true, client.prepareIndex("index", "type", "1").setSource("suggest", "nirvana"));
+        // Force merge the index to ensure there can be no background merges during the subsequent searches that would invalidate the cache
+        ForceMergeResponse forceMergeResponse = client.admin().indices().prepareForceMerge("index").setFlush(true).get();
+        OpenSearchAssertions.assertAllSuccessful(forceMergeResponse);
+        refresh();
+
+        SuggestBuilder suggest = new SuggestBuilder().addSuggestion("s", SuggestBuilders.completionSuggestion("suggest").prefix("nir"));
+        // suggest only requests are not cached by default
+        SearchResponse r = client.prepareSearch("index").suggest(suggest).get();
+        OpenSearchAssertions.assertAllSuccessful(r);
+        assertCacheState(client, "index", 0, 0);
+
+        for (int i = 0; i < 2; i++) {
+            r = client.prepareSearch("index").setRequestCache(true).suggest(suggest).get();
+            OpenSearchAssertions.assertAllSuccessful(r);
+            assertThat(r.getSuggest().getSuggestion("s").getEntries().get(0).getOptions().size(), equalTo(1));
+            assertCacheState(client, "index", i, 1);
+        }
+    }
+
     private static void assertCacheState(Client client, String index, long expectedHits, long expectedMisses) {
         RequestCacheStats requestCacheStats = client.admin().indices().prepareStats(index)
             .setRequestCache(true)
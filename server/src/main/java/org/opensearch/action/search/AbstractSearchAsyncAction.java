@@ -111,6 +111,7 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
     private final int maxConcurrentRequestsPerNode;
     private final Map<String, PendingExecutions> pendingExecutionsPerNode = new ConcurrentHashMap<>();
     private final boolean throttleConcurrentRequests;
+    private final ShardSearchRequest.SerializedSourceCache serializedSourceCache = new ShardSearchRequest.SerializedSourceCache();
 
     private final List<Releasable> releasables = new ArrayList<>();
 
@@ -651,6 +652,7 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         // than creating an empty response in the search thread pool.
         // Note that, we have to disable this shortcut for queries that create a context (scroll and search context).
         shardRequest.canReturnNullResponseIfMatchNoDocs(hasShardResponse.get() && shardRequest.scroll() == null);
+        shardRequest.setSerializedSourceCache(serializedSourceCache);
         return shardRequest;
     }
 
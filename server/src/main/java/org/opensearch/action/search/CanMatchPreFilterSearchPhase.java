@@ -37,10 +37,13 @@ import org.opensearch.action.ActionListener;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.routing.GroupShardsIterator;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.index.query.MatchNoneQueryBuilder;
+import org.opensearch.search.SearchService;
 import org.opensearch.search.SearchService.CanMatchResponse;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.MinAndMax;
 import org.opensearch.search.sort.SortOrder;
@@ -98,8 +101,26 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
     @Override
     protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard,
                                        SearchActionListener<CanMatchResponse> listener) {
-        getSearchTransport().sendCanMatch(getConnection(shard.getClusterAlias(), shard.getNodeId()),
-            buildShardSearchRequest(shardIt), getTask(), listener);
+        final ShardSearchRequest request = buildShardSearchRequest(shardIt);
+        if (canMatchOnCoordinator(request) == false) {
+            // the shard can't match no matter what data it holds so there is no need for a round trip
+            listener.onResponse(new CanMatchResponse(false, null));
+            return;
+        }
+        getSearchTransport().sendCanMatch(getConnection(shard.getClusterAlias(), shard.getNodeId()), request, getTask(), listener);
+    }
+
+    /**
+     * Returns {@code false} if the given shard request can be skipped without asking the shard, which is the case if its alias filter
+     * or its already rewritten query match no documents. This mirrors the checks done on the shard in
+     * {@link org.opensearch.search.SearchService#canMatch(ShardSearchRequest)}.
+     */
+    static boolean canMatchOnCoordinator(ShardSearchRequest request) {
+        if (request.getAliasFilter().getQueryBuilder() instanceof MatchNoneQueryBuilder) {
+            return false;
+        }
+        final SearchSourceBuilder source = request.source();
+        return SearchService.canRewriteToMatchNone(source) == false || source.query() instanceof MatchNoneQueryBuilder == false;
     }
 
     @Override
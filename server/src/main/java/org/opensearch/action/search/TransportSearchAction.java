@@ -677,8 +677,11 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
             searchRequest.allowPartialSearchResults(searchService.defaultAllowPartialSearchResults());
         }
         if (searchRequest.isSuggestOnly()) {
-            // disable request cache if we have only suggest
-            searchRequest.requestCache(false);
+            // disable request cache if we have only suggest, unless it was explicitly requested. Popular prefixes
+            // can then be served from the shard request cache, which is invalidated on refresh.
+            if (searchRequest.requestCache() == null) {
+                searchRequest.requestCache(false);
+            }
             switch (searchRequest.searchType()) {
                 case DFS_QUERY_THEN_FETCH:
                     // convert to Q_T_F if we have only suggest
@@ -56,12 +56,9 @@ import org.opensearch.cluster.routing.ShardIterator;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.bytes.BytesReference;
-import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.io.stream.NotSerializableExceptionWrapper;
 import org.opensearch.common.io.stream.StreamInput;
-import org.opensearch.common.xcontent.XContentHelper;
-import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.engine.VersionConflictEngineException;
@@ -75,7 +72,6 @@ import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.Map;
 
 import static org.opensearch.ExceptionsHelper.unwrapCause;
 import static org.opensearch.action.bulk.TransportSingleItemBulkWriteAction.toSingleItemBulkRequest;
@@ -212,15 +208,9 @@ public class TransportUpdateAction extends TransportInstanceSingleOperationActio
                             UpdateResponse update = new UpdateResponse(response.getShardInfo(), response.getShardId(),
                                 response.getType(), response.getId(), response.getSeqNo(), response.getPrimaryTerm(),
                                 response.getVersion(), response.getResult());
-                            if (request.fetchSource() != null && request.fetchSource().fetchSource()) {
-                                Tuple<XContentType, Map<String, Object>> sourceAndContent =
-                                        XContentHelper.convertToMap(upsertSourceBytes, true, upsertRequest.getContentType());
-                                update.setGetResult(UpdateHelper.extractGetResult(request, request.concreteIndex(),
-                                    response.getSeqNo(), response.getPrimaryTerm(), response.getVersion(), sourceAndContent.v2(),
-                                    sourceAndContent.v1(), upsertSourceBytes));
-                            } else {
-                                update.setGetResult(null);
-                            }
+                            update.setGetResult(UpdateHelper.extractGetResult(request, request.concreteIndex(),
+                                response.getSeqNo(), response.getPrimaryTerm(), response.getVersion(), upsertSourceBytes,
+                                upsertRequest.getContentType()));
                             update.setForcedRefresh(response.forcedRefresh());
                             listener.onResponse(update);
                         }, exception -> handleUpdateFailureWithRetry(listener, request, exception, retryCount)))
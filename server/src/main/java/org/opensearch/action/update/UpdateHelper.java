@@ -148,13 +148,13 @@ public class UpdateHelper {
                     nowInMillis);
                 switch (upsertResult.v1()) {
                     case CREATE:
-                        indexRequest = Requests.indexRequest(request.index()).source(upsertResult.v2());
+                        indexRequest = Requests.indexRequest(request.index()).source(upsertResult.v2(), upsert.getContentType());
                         break;
                     case NONE:
                         UpdateResponse update = new UpdateResponse(shardId, getResult.getType(), getResult.getId(),
                                 getResult.getSeqNo(), getResult.getPrimaryTerm(), getResult.getVersion(), DocWriteResponse.Result.NOOP);
                         update.setGetResult(getResult);
-                        return new Result(update, DocWriteResponse.Result.NOOP, upsertResult.v2(), XContentType.JSON);
+                        return new Result(update, DocWriteResponse.Result.NOOP, upsertResult.v2(), upsert.getContentType());
                     default:
                         // It's fine to throw an exception here, the leniency is handled/logged by `executeScriptedUpsert`
                         throw new IllegalArgumentException("unknown upsert operation, got: " + upsertResult.v1());
@@ -321,6 +321,24 @@ public class UpdateHelper {
             Collections.emptyMap(), Collections.emptyMap());
     }
 
+    /**
+     * Applies the source fetching options of the update request to the source of the document that was written. The source is only
+     * parsed if it needs to be filtered, otherwise its bytes are returned as they are.
+     */
+    public static GetResult extractGetResult(final UpdateRequest request, String concreteIndex, long seqNo, long primaryTerm, long version,
+                                             final BytesReference sourceAsBytes, XContentType sourceContentType) {
+        if (request.fetchSource() == null || request.fetchSource().fetchSource() == false) {
+            return null;
+        }
+        if (request.fetchSource().includes().length > 0 || request.fetchSource().excludes().length > 0) {
+            final Tuple<XContentType, Map<String, Object>> sourceAndContent =
+                XContentHelper.convertToMap(sourceAsBytes, true, sourceContentType);
+            return extractGetResult(request, concreteIndex, seqNo, primaryTerm, version, sourceAndContent.v2(), sourceAndContent.v1(),
+                sourceAsBytes);
+        }
+        return extractGetResult(request, concreteIndex, seqNo, primaryTerm, version, null, sourceContentType, sourceAsBytes);
+    }
+
     public static class Result {
 
         private final Writeable action;
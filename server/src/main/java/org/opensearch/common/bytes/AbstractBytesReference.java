@@ -256,6 +256,22 @@ public abstract class AbstractBytesReference implements BytesReference {
             assert bytesRead == len : bytesRead + " vs " + len;
         }
 
+        @Override
+        protected String tryReadAsciiString(int charCount) throws IOException {
+            if (charCount == 0 || charCount > length() - offset()) {
+                return null;
+            }
+            maybeNextSlice();
+            if (slice.length - sliceIndex < charCount) {
+                return null;
+            }
+            final String string = asciiStringOrNull(slice.bytes, slice.offset + sliceIndex, charCount);
+            if (string != null) {
+                sliceIndex += charCount;
+            }
+            return string;
+        }
+
         @Override
         public int read() throws IOException {
             if (offset() >= length()) {
@@ -90,6 +90,18 @@ public class ByteBufferStreamInput extends StreamInput {
         buffer.get(b, offset, len);
     }
 
+    @Override
+    protected String tryReadAsciiString(int charCount) throws IOException {
+        if (buffer.hasArray() == false || buffer.remaining() < charCount) {
+            return null;
+        }
+        final String string = asciiStringOrNull(buffer.array(), buffer.arrayOffset() + buffer.position(), charCount);
+        if (string != null) {
+            buffer.position(buffer.position() + charCount);
+        }
+        return string;
+    }
+
     @Override
     public short readShort() throws IOException {
         try {
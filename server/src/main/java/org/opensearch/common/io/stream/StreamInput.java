@@ -65,6 +65,7 @@ import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.DirectoryNotEmptyException;
@@ -418,6 +419,10 @@ public abstract class StreamInput extends InputStream {
 
     public String readString() throws IOException {
         final int charCount = readArraySize();
+        final String asciiString = tryReadAsciiString(charCount);
+        if (asciiString != null) {
+            return asciiString;
+        }
         final CharsRef charsRef;
         if (charCount > SMALL_STRING_LIMIT) {
             if (largeSpare == null) {
@@ -541,6 +546,28 @@ public abstract class StreamInput extends InputStream {
         return charsRef.toString();
     }
 
+    /**
+     * Attempts to decode a string of {@code charCount} single-byte (ASCII) chars straight from the underlying buffer, skipping the
+     * intermediate byte and char buffers used by {@link #readString()}. Implementations must not consume any bytes and return
+     * {@code null} if the next {@code charCount} bytes are not contiguously available or contain a non-ASCII byte.
+     */
+    protected String tryReadAsciiString(int charCount) throws IOException {
+        return null;
+    }
+
+    /**
+     * Decodes {@code length} bytes starting at {@code offset} as an ASCII string, or returns {@code null} if any of them is not ASCII.
+     */
+    protected static String asciiStringOrNull(byte[] bytes, int offset, int length) {
+        final int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (bytes[i] < 0) {
+                return null;
+            }
+        }
+        return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    }
+
     private static void throwOnBrokenChar(int c) throws IOException {
         throw new IOException("Invalid string; unexpected character: " + c + " hex: " + Integer.toHexString(c));
     }
@@ -0,0 +1,65 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative values with power-of-two bucket boundaries. Bucket {@code 0} counts values below {@code 1},
+ * bucket {@code i} counts values in {@code [2^(i-1), 2^i)} and the last bucket also counts everything above its lower bound.
+ */
+public final class ExponentialBucketHistogram implements Metric {
+
+    public static final int BUCKET_COUNT = 32;
+
+    private final LongAdder[] buckets;
+
+    public ExponentialBucketHistogram() {
+        buckets = new LongAdder[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void inc(long value) {
+        buckets[bucketIndex(value)].increment();
+    }
+
+    /**
+     * Returns the current count of each bucket.
+     */
+    public long[] snapshot() {
+        final long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    static int bucketIndex(long value) {
+        if (value <= 0) {
+            return 0;
+        }
+        return Math.min(Long.SIZE - Long.numberOfLeadingZeros(value), BUCKET_COUNT - 1);
+    }
+
+    /**
+     * The inclusive lower bound of the values counted in the given bucket.
+     */
+    public static long lowerBound(int bucket) {
+        return bucket == 0 ? 0L : 1L << (bucket - 1);
+    }
+
+    /**
+     * The exclusive upper bound of the values counted in the given bucket, or {@link Long#MAX_VALUE} for the last bucket.
+     */
+    public static long upperBound(int bucket) {
+        return bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+}
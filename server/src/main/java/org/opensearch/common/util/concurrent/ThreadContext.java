@@ -35,7 +35,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.support.ContextPreservingActionListener;
 import org.opensearch.client.OriginSettingClient;
-import org.opensearch.common.collect.MapBuilder;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -135,11 +134,10 @@ public final class ThreadContext implements Writeable {
          * This is needed so the DeprecationLogger in another thread can see the value of X-Opaque-ID provided by a user.
          * Otherwise when context is stash, it should be empty.
          */
-        if (context.requestHeaders.containsKey(Task.X_OPAQUE_ID)) {
-            ThreadContextStruct threadContextStruct =
-                DEFAULT_CONTEXT.putHeaders(MapBuilder.<String, String>newMapBuilder()
-                    .put(Task.X_OPAQUE_ID, context.requestHeaders.get(Task.X_OPAQUE_ID))
-                    .immutableMap());
+        final String xOpaqueId = context.requestHeaders.get(Task.X_OPAQUE_ID);
+        if (xOpaqueId != null) {
+            ThreadContextStruct threadContextStruct = new ThreadContextStruct(Collections.singletonMap(Task.X_OPAQUE_ID, xOpaqueId),
+                Collections.emptyMap(), Collections.emptyMap(), false);
             threadLocal.set(threadContextStruct);
         } else {
             threadLocal.set(DEFAULT_CONTEXT);
@@ -192,9 +190,19 @@ public final class ThreadContext implements Writeable {
      */
     public StoredContext stashAndMergeHeaders(Map<String, String> headers) {
         final ThreadContextStruct context = threadLocal.get();
-        Map<String, String> newHeader = new HashMap<>(headers);
-        newHeader.putAll(context.requestHeaders);
-        threadLocal.set(DEFAULT_CONTEXT.putHeaders(newHeader));
+        final Map<String, String> newHeader;
+        if (headers.isEmpty()) {
+            // the request headers of a context are never modified so they can be shared with the new context
+            newHeader = context.requestHeaders;
+        } else {
+            newHeader = new HashMap<>(headers);
+            newHeader.putAll(context.requestHeaders);
+        }
+        if (newHeader.isEmpty()) {
+            threadLocal.set(DEFAULT_CONTEXT);
+        } else {
+            threadLocal.set(new ThreadContextStruct(newHeader, Collections.emptyMap(), Collections.emptyMap(), false));
+        }
         return () -> threadLocal.set(context);
     }
 
@@ -552,8 +560,13 @@ public final class ThreadContext implements Writeable {
         }
 
         private ThreadContextStruct putRequest(String key, String value) {
-            Map<String, String> newRequestHeaders = new HashMap<>(this.requestHeaders);
-            putSingleHeader(key, value, newRequestHeaders);
+            final Map<String, String> newRequestHeaders;
+            if (this.requestHeaders.isEmpty()) {
+                newRequestHeaders = Collections.singletonMap(key, value);
+            } else {
+                newRequestHeaders = new HashMap<>(this.requestHeaders);
+                putSingleHeader(key, value, newRequestHeaders);
+            }
             return new ThreadContextStruct(newRequestHeaders, responseHeaders, transientHeaders, isSystemContext);
         }
 
@@ -646,8 +659,13 @@ public final class ThreadContext implements Writeable {
         }
 
         private ThreadContextStruct putTransient(String key, Object value) {
-            Map<String, Object> newTransient = new HashMap<>(this.transientHeaders);
-            putSingleHeader(key, value, newTransient);
+            final Map<String, Object> newTransient;
+            if (this.transientHeaders.isEmpty()) {
+                newTransient = Collections.singletonMap(key, value);
+            } else {
+                newTransient = new HashMap<>(this.transientHeaders);
+                putSingleHeader(key, value, newTransient);
+            }
             return new ThreadContextStruct(requestHeaders, responseHeaders, newTransient, isSystemContext);
         }
 
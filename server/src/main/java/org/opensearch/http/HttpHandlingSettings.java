@@ -37,6 +37,7 @@ import org.opensearch.common.settings.Settings;
 import static org.opensearch.http.HttpTransportSettings.SETTING_CORS_ENABLED;
 import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_COMPRESSION;
 import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_COMPRESSION_LEVEL;
+import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_COMPRESSION_MIN_SIZE;
 import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_DETAILED_ERRORS_ENABLED;
 import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_MAX_CHUNK_SIZE;
 import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_MAX_CONTENT_LENGTH;
@@ -55,14 +56,15 @@ public class HttpHandlingSettings {
     private final boolean resetCookies;
     private final boolean compression;
     private final int compressionLevel;
+    private final int compressionMinSize;
     private final boolean detailedErrorsEnabled;
     private final int pipeliningMaxEvents;
     private final long readTimeoutMillis;
     private boolean corsEnabled;
 
     public HttpHandlingSettings(int maxContentLength, int maxChunkSize, int maxHeaderSize, int maxInitialLineLength,
-                                boolean resetCookies, boolean compression, int compressionLevel, boolean detailedErrorsEnabled,
-                                int pipeliningMaxEvents, long readTimeoutMillis, boolean corsEnabled) {
+                                boolean resetCookies, boolean compression, int compressionLevel, int compressionMinSize,
+                                boolean detailedErrorsEnabled, int pipeliningMaxEvents, long readTimeoutMillis, boolean corsEnabled) {
         this.maxContentLength = maxContentLength;
         this.maxChunkSize = maxChunkSize;
         this.maxHeaderSize = maxHeaderSize;
@@ -70,6 +72,7 @@ public class HttpHandlingSettings {
         this.resetCookies = resetCookies;
         this.compression = compression;
         this.compressionLevel = compressionLevel;
+        this.compressionMinSize = compressionMinSize;
         this.detailedErrorsEnabled = detailedErrorsEnabled;
         this.pipeliningMaxEvents = pipeliningMaxEvents;
         this.readTimeoutMillis = readTimeoutMillis;
@@ -84,6 +87,7 @@ public class HttpHandlingSettings {
             SETTING_HTTP_RESET_COOKIES.get(settings),
             SETTING_HTTP_COMPRESSION.get(settings),
             SETTING_HTTP_COMPRESSION_LEVEL.get(settings),
+            Math.toIntExact(SETTING_HTTP_COMPRESSION_MIN_SIZE.get(settings).getBytes()),
             SETTING_HTTP_DETAILED_ERRORS_ENABLED.get(settings),
             SETTING_PIPELINING_MAX_EVENTS.get(settings),
             SETTING_HTTP_READ_TIMEOUT.get(settings).getMillis(),
@@ -118,6 +122,13 @@ public class HttpHandlingSettings {
         return compressionLevel;
     }
 
+    /**
+     * Responses with a body smaller than this many bytes are not compressed.
+     */
+    public int getCompressionMinSize() {
+        return compressionMinSize;
+    }
+
     public boolean getDetailedErrorsEnabled() {
         return detailedErrorsEnabled;
     }
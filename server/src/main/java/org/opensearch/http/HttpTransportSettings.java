@@ -72,6 +72,15 @@ public final class HttpTransportSettings {
     // best compromise between reduction in network traffic and added latency. For more details please check #7309.
     public static final Setting<Integer> SETTING_HTTP_COMPRESSION_LEVEL =
         intSetting("http.compression_level", 3, Property.NodeScope);
+    // responses with a body smaller than this are sent uncompressed; for tiny bodies gzip's framing overhead and the per-response
+    // deflater setup outweigh the few bytes that compressing them would save
+    public static final Setting<ByteSizeValue> SETTING_HTTP_COMPRESSION_MIN_SIZE =
+        Setting.byteSizeSetting(
+                "http.compression_min_size",
+                new ByteSizeValue(0, ByteSizeUnit.BYTES),
+                new ByteSizeValue(0, ByteSizeUnit.BYTES),
+                new ByteSizeValue(Integer.MAX_VALUE, ByteSizeUnit.BYTES),
+                Property.NodeScope);
     public static final Setting<List<String>> SETTING_HTTP_HOST =
         listSetting("http.host", emptyList(), Function.identity(), Property.NodeScope);
     public static final Setting<List<String>> SETTING_HTTP_PUBLISH_HOST =
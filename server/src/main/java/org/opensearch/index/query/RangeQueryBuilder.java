@@ -45,8 +45,10 @@ import org.opensearch.common.time.DateFormatter;
 import org.opensearch.common.time.DateMathParser;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.index.mapper.FieldNamesFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.indices.IndicesRequestCache;
 
 import java.io.IOException;
 import java.time.DateTimeException;
@@ -74,6 +76,8 @@ public class RangeQueryBuilder extends AbstractQueryBuilder<RangeQueryBuilder> i
     private static final ParseField FORMAT_FIELD = new ParseField("format");
     private static final ParseField RELATION_FIELD = new ParseField("relation");
 
+    private static final String EPOCH_MILLIS_FORMAT = "epoch_millis";
+
     private final String fieldName;
     private Object from;
     private Object to;
@@ -479,12 +483,74 @@ public class RangeQueryBuilder extends AbstractQueryBuilder<RangeQueryBuilder> i
                 return this;
             }
         case INTERSECTS:
-            return this;
+            return resolveRoundedNow(queryRewriteContext);
         default:
             throw new AssertionError();
         }
     }
 
+    /**
+     * Resolves the bounds of a range query on a date field to absolute values if they only use date math relative to {@code now}
+     * that is rounded, e.g. {@code now-15m/m}, and this is enabled for the index via
+     * {@link IndicesRequestCache#INDEX_CACHE_REQUEST_ROUNDED_NOW_SETTING}. The resolved query doesn't depend on {@code now} any more
+     * so the request can be cached, and it is the same for all requests within the rounding interval.
+     */
+    private QueryBuilder resolveRoundedNow(QueryRewriteContext queryRewriteContext) {
+        final QueryShardContext shardContext = queryRewriteContext.convertToShardContext();
+        if (shardContext == null || shardContext.getIndexReader() == null) {
+            // not on the shard, or e.g. a percolator query that must not be bound to the current time
+            return this;
+        }
+        if ((isNowRelative(from) || isNowRelative(to)) == false || isUnroundedNowRelative(from) || isUnroundedNowRelative(to)) {
+            return this;
+        }
+        if (shardContext.getIndexSettings().getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_ROUNDED_NOW_SETTING) == false) {
+            return this;
+        }
+        final MappedFieldType fieldType = shardContext.fieldMapper(fieldName);
+        if (fieldType instanceof DateFieldMapper.DateFieldType == false
+            || ((DateFieldMapper.DateFieldType) fieldType).resolution() != DateFieldMapper.Resolution.MILLISECONDS) {
+            return this;
+        }
+        final DateFieldMapper.DateFieldType dateFieldType = (DateFieldMapper.DateFieldType) fieldType;
+        final DateMathParser forcedDateParser = getForceDateParser();
+        final RangeQueryBuilder resolved = new RangeQueryBuilder(fieldName);
+        if (from != null) {
+            long lower = dateFieldType.parseToLong(from, includeLower == false, timeZone, forcedDateParser, shardContext::nowInMillis);
+            if (includeLower == false) {
+                if (lower == Long.MAX_VALUE) {
+                    return new MatchNoneQueryBuilder();
+                }
+                ++lower;
+            }
+            resolved.from(lower, true);
+        }
+        if (to != null) {
+            long upper = dateFieldType.parseToLong(to, includeUpper, timeZone, forcedDateParser, shardContext::nowInMillis);
+            if (includeUpper == false) {
+                if (upper == Long.MIN_VALUE) {
+                    return new MatchNoneQueryBuilder();
+                }
+                --upper;
+            }
+            resolved.to(upper, true);
+        }
+        resolved.format(EPOCH_MILLIS_FORMAT);
+        resolved.relation = relation;
+        resolved.boost(boost);
+        resolved.queryName(queryName);
+        return resolved;
+    }
+
+    private static boolean isNowRelative(Object bound) {
+        return bound != null && maybeConvertToString(bound).toString().startsWith("now");
+    }
+
+    // pkg private for testing
+    static boolean isUnroundedNowRelative(Object bound) {
+        return isNowRelative(bound) && maybeConvertToString(bound).toString().indexOf('/') < 0;
+    }
+
     @Override
     protected Query doToQuery(QueryShardContext context) throws IOException {
         if (from == null && to == null) {
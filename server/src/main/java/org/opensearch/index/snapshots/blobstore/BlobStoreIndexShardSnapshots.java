@@ -44,9 +44,11 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static java.util.Collections.unmodifiableMap;
 
@@ -68,54 +70,47 @@ public class BlobStoreIndexShardSnapshots implements Iterable<SnapshotFiles>, To
         this.shardSnapshots = Collections.unmodifiableList(new ArrayList<>(shardSnapshots));
         // Map between blob names and file info
         Map<String, FileInfo> newFiles = new HashMap<>();
-        // Map between original physical names and file info
-        Map<String, List<FileInfo>> physicalFiles = new HashMap<>();
         for (SnapshotFiles snapshot : shardSnapshots) {
             // First we build map between filenames in the repo and their original file info
-            // this map will be used in the next loop
+            // this map will be used to build the physical file lookup
             for (FileInfo fileInfo : snapshot.indexFiles()) {
                 FileInfo oldFile = newFiles.put(fileInfo.name(), fileInfo);
                 assert oldFile == null || oldFile.isSame(fileInfo);
             }
-            // We are doing it in two loops here so we keep only one copy of the fileInfo per blob
-            // the first loop de-duplicates fileInfo objects that were loaded from different snapshots but refer to
-            // the same blob
-            for (FileInfo fileInfo : snapshot.indexFiles()) {
-                List<FileInfo> physicalFileList = physicalFiles.get(fileInfo.physicalName());
-                if (physicalFileList == null) {
-                    physicalFileList = new ArrayList<>();
-                    physicalFiles.put(fileInfo.physicalName(), physicalFileList);
-                }
-                physicalFileList.add(newFiles.get(fileInfo.name()));
-            }
-        }
-        Map<String, List<FileInfo>> mapBuilder = new HashMap<>();
-        for (Map.Entry<String, List<FileInfo>> entry : physicalFiles.entrySet()) {
-            mapBuilder.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
         }
-        this.physicalFiles = unmodifiableMap(mapBuilder);
         this.files = unmodifiableMap(newFiles);
+        this.physicalFiles = buildPhysicalFiles(newFiles, shardSnapshots);
     }
 
     private BlobStoreIndexShardSnapshots(Map<String, FileInfo> files, List<SnapshotFiles> shardSnapshots) {
         this.shardSnapshots = shardSnapshots;
         this.files = files;
-        Map<String, List<FileInfo>> physicalFiles = new HashMap<>();
+        this.physicalFiles = buildPhysicalFiles(files, shardSnapshots);
+    }
+
+    /**
+     * Builds the map between original physical names and the file infos of the blobs holding them. Every blob is listed only once
+     * per physical name even if it is referenced by many snapshots, so that looking up an already snapshotted file is proportional
+     * to the number of distinct blobs rather than to the number of snapshots of the shard.
+     */
+    private static Map<String, List<FileInfo>> buildPhysicalFiles(Map<String, FileInfo> files, List<SnapshotFiles> shardSnapshots) {
+        final Map<String, List<FileInfo>> physicalFiles = new HashMap<>();
+        final Set<String> seenBlobs = new HashSet<>(files.size());
         for (SnapshotFiles snapshot : shardSnapshots) {
             for (FileInfo fileInfo : snapshot.indexFiles()) {
-                List<FileInfo> physicalFileList = physicalFiles.get(fileInfo.physicalName());
-                if (physicalFileList == null) {
-                    physicalFileList = new ArrayList<>();
-                    physicalFiles.put(fileInfo.physicalName(), physicalFileList);
+                if (seenBlobs.add(fileInfo.name()) == false) {
+                    continue;
                 }
-                physicalFileList.add(files.get(fileInfo.name()));
+                // use the file info from the files map so that we keep only one copy of the file info per blob even if it was
+                // loaded from different snapshots
+                physicalFiles.computeIfAbsent(fileInfo.physicalName(), k -> new ArrayList<>()).add(files.get(fileInfo.name()));
             }
         }
-        Map<String, List<FileInfo>> mapBuilder = new HashMap<>();
+        final Map<String, List<FileInfo>> mapBuilder = new HashMap<>(physicalFiles.size());
         for (Map.Entry<String, List<FileInfo>> entry : physicalFiles.entrySet()) {
-            mapBuilder.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
+            mapBuilder.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
         }
-        this.physicalFiles = unmodifiableMap(mapBuilder);
+        return unmodifiableMap(mapBuilder);
     }
 
     /**
@@ -83,6 +83,12 @@ public final class BufferedChecksumStreamInput extends FilterStreamInput {
         digest.update(b, offset, len);
     }
 
+    @Override
+    protected String tryReadAsciiString(int charCount) {
+        // every byte has to go through the digest
+        return null;
+    }
+
     private static final ThreadLocal<byte[]> buffer = ThreadLocal.withInitial(() -> new byte[8]);
 
     @Override
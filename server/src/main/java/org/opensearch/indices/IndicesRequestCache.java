@@ -32,8 +32,6 @@
 
 package org.opensearch.indices;
 
-import com.carrotsearch.hppc.ObjectHashSet;
-import com.carrotsearch.hppc.ObjectSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.DirectoryReader;
@@ -59,7 +57,10 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
@@ -87,6 +88,12 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
      */
     public static final Setting<Boolean> INDEX_CACHE_REQUEST_ENABLED_SETTING =
         Setting.boolSetting("index.requests.cache.enable", true, Property.Dynamic, Property.IndexScope);
+    /**
+     * A setting to resolve date math that is rounded and relative to {@code now} in range queries to absolute values on the shard,
+     * which allows caching such requests. The cache key of these requests only changes once per rounding interval.
+     */
+    public static final Setting<Boolean> INDEX_CACHE_REQUEST_ROUNDED_NOW_SETTING =
+        Setting.boolSetting("index.requests.cache.rounded_now.enable", false, Property.Dynamic, Property.IndexScope);
     public static final Setting<ByteSizeValue> INDICES_CACHE_QUERY_SIZE =
         Setting.memorySizeSetting("indices.requests.cache.size", "1%", Property.NodeScope);
     public static final Setting<TimeValue> INDICES_CACHE_QUERY_EXPIRE =
@@ -304,10 +311,9 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
 
 
     synchronized void cleanCache() {
-        final ObjectSet<CleanupKey> currentKeysToClean = new ObjectHashSet<>();
-        final ObjectSet<Object> currentFullClean = new ObjectHashSet<>();
-        currentKeysToClean.clear();
-        currentFullClean.clear();
+        // group the reader keys to clean by cache identity so that checking each cache entry below doesn't need to allocate
+        final Map<Object, Set<IndexReader.CacheKey>> currentKeysToClean = new HashMap<>();
+        final Set<Object> currentFullClean = new HashSet<>();
         for (Iterator<CleanupKey> iterator = keysToClean.iterator(); iterator.hasNext(); ) {
             CleanupKey cleanupKey = iterator.next();
             iterator.remove();
@@ -315,16 +321,19 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
                 // null indicates full cleanup, as does a closed shard
                 currentFullClean.add(cleanupKey.entity.getCacheIdentity());
             } else {
-                currentKeysToClean.add(cleanupKey);
+                currentKeysToClean.computeIfAbsent(cleanupKey.entity.getCacheIdentity(), k -> new HashSet<>())
+                    .add(cleanupKey.readerCacheKey);
             }
         }
         if (!currentKeysToClean.isEmpty() || !currentFullClean.isEmpty()) {
             for (Iterator<Key> iterator = cache.keys().iterator(); iterator.hasNext(); ) {
                 Key key = iterator.next();
-                if (currentFullClean.contains(key.entity.getCacheIdentity())) {
+                final Object cacheIdentity = key.entity.getCacheIdentity();
+                if (currentFullClean.contains(cacheIdentity)) {
                     iterator.remove();
                 } else {
-                    if (currentKeysToClean.contains(new CleanupKey(key.entity, key.readerCacheKey))) {
+                    final Set<IndexReader.CacheKey> readerKeysToClean = currentKeysToClean.get(cacheIdentity);
+                    if (readerKeysToClean != null && readerKeysToClean.contains(key.readerCacheKey)) {
                         iterator.remove();
                     }
                 }
@@ -62,6 +62,13 @@ public abstract class CircuitBreakerService extends AbstractLifecycleComponent {
      */
     public abstract CircuitBreakerStats stats(String name);
 
+    /**
+     * @return the share of the in-flight requests breaker limit that a single client, identified by its remote host, may hold at once
+     */
+    public double getInFlightRequestsClientRatio() {
+        return 1.0d;
+    }
+
     @Override
     protected void doStart() {
     }
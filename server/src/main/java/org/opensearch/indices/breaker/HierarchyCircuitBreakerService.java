@@ -120,9 +120,18 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
         Setting.doubleSetting("network.breaker.inflight_requests.overhead", 2.0d, 0.0d, Property.Dynamic, Property.NodeScope);
     public static final Setting<CircuitBreaker.Type> IN_FLIGHT_REQUESTS_CIRCUIT_BREAKER_TYPE_SETTING =
         new Setting<>("network.breaker.inflight_requests.type", "memory", CircuitBreaker.Type::parseValue, Property.NodeScope);
+    /**
+     * The share of the in-flight requests breaker limit that a single client may hold at once. Clients are told apart by the host of
+     * the remote address of their HTTP connection, so all clients behind the same proxy or load balancer share a single client's share.
+     * Only lower this on nodes that clients connect to directly.
+     */
+    public static final Setting<Double> IN_FLIGHT_REQUESTS_CIRCUIT_BREAKER_CLIENT_RATIO_SETTING =
+        Setting.doubleSetting("network.breaker.inflight_requests.client_ratio", 1.0d, 0.0d, 1.0d,
+            Property.Dynamic, Property.NodeScope);
 
     private final boolean trackRealMemoryUsage;
     private volatile BreakerSettings parentSettings;
+    private volatile double inFlightRequestsClientRatio;
 
     // Tripped count for when redistribution was attempted but wasn't successful
     private final AtomicLong parentTripCount = new AtomicLong(0);
@@ -179,6 +188,7 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
         logger.trace(() -> new ParameterizedMessage("parent circuit breaker with settings {}", this.parentSettings));
 
         this.trackRealMemoryUsage = USE_REAL_MEMORY_USAGE_SETTING.get(settings);
+        this.inFlightRequestsClientRatio = IN_FLIGHT_REQUESTS_CIRCUIT_BREAKER_CLIENT_RATIO_SETTING.get(settings);
 
         clusterSettings.addSettingsUpdateConsumer(TOTAL_CIRCUIT_BREAKER_LIMIT_SETTING, this::setTotalCircuitBreakerLimit,
             this::validateTotalCircuitBreakerLimit);
@@ -188,6 +198,8 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
         clusterSettings.addSettingsUpdateConsumer(IN_FLIGHT_REQUESTS_CIRCUIT_BREAKER_LIMIT_SETTING,
             IN_FLIGHT_REQUESTS_CIRCUIT_BREAKER_OVERHEAD_SETTING,
             (limit, overhead) -> updateCircuitBreakerSettings(CircuitBreaker.IN_FLIGHT_REQUESTS, limit, overhead));
+        clusterSettings.addSettingsUpdateConsumer(IN_FLIGHT_REQUESTS_CIRCUIT_BREAKER_CLIENT_RATIO_SETTING,
+            ratio -> this.inFlightRequestsClientRatio = ratio);
         clusterSettings.addSettingsUpdateConsumer(REQUEST_CIRCUIT_BREAKER_LIMIT_SETTING,
             REQUEST_CIRCUIT_BREAKER_OVERHEAD_SETTING,
             (limit, overhead) -> updateCircuitBreakerSettings(CircuitBreaker.REQUEST, limit, overhead));
@@ -242,6 +254,11 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
         return this.breakers.get(name);
     }
 
+    @Override
+    public double getInFlightRequestsClientRatio() {
+        return inFlightRequestsClientRatio;
+    }
+
     @Override
     public AllCircuitBreakerStats stats() {
         List<CircuitBreakerStats> allStats = new ArrayList<>(this.breakers.size());
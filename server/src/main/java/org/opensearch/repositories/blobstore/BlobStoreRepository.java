@@ -216,6 +216,13 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
     public static final Setting<Boolean> CACHE_REPOSITORY_DATA =
         Setting.boolSetting("cache_repository_data", true, Setting.Property.Deprecated);
 
+    /**
+     * Maximum compressed size of the latest repository data that is kept in the cache. Repository data that is larger than this
+     * is re-read from the {@code index-N} blob on every access.
+     */
+    public static final Setting<ByteSizeValue> CACHE_REPOSITORY_DATA_MAX_SIZE = Setting.byteSizeSetting("cache_repository_data_max_size",
+        new ByteSizeValue(500, ByteSizeUnit.KB), ByteSizeValue.ZERO, new ByteSizeValue(100, ByteSizeUnit.MB));
+
     /**
      * Size hint for the IO buffer size to use when reading from and writing to the repository.
      */
@@ -235,6 +242,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
 
     private final boolean cacheRepositoryData;
 
+    private final long cacheRepositoryDataMaxSize;
+
     private final RateLimiter snapshotRateLimiter;
 
     private final RateLimiter restoreRateLimiter;
@@ -329,6 +338,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         restoreRateLimiter = getRateLimiter(metadata.settings(), "max_restore_bytes_per_sec", ByteSizeValue.ZERO);
         readOnly = metadata.settings().getAsBoolean("readonly", false);
         cacheRepositoryData = CACHE_REPOSITORY_DATA.get(metadata.settings());
+        cacheRepositoryDataMaxSize = CACHE_REPOSITORY_DATA_MAX_SIZE.get(metadata.settings()).getBytes();
         bufferSize = Math.toIntExact(BUFFER_SIZE_SETTING.get(metadata.settings()).getBytes());
     }
 
@@ -1309,6 +1319,12 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
     // Best effort cache of the latest known repository data and its generation, cached serialized as compressed json
     private final AtomicReference<Tuple<Long, BytesReference>> latestKnownRepositoryData = new AtomicReference<>();
 
+    // Uncompressed serialized size of the smallest repository data that was too large to be cached. The cache limit applies to the
+    // compressed size, so this is only a heuristic: repository data mostly grows over time and compresses similarly as it does, so
+    // anything at least this large is not serialized and compressed again just to find out that it can't be cached either. It is reset
+    // whenever repository data fits into the cache again so that a larger but better compressing blob is not ruled out forever.
+    private volatile long minUncacheableRepositoryDataSize = Long.MAX_VALUE;
+
     @Override
     public void getRepositoryData(ActionListener<RepositoryData> listener) {
         if (latestKnownRepoGen.get() == RepositoryData.CORRUPTED_REPO_GEN) {
@@ -1364,12 +1380,18 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                 if (bestEffortConsistency == false && cached != null && cached.v1() == genToLoad) {
                     loaded = repositoryDataFromCachedEntry(cached);
                 } else {
-                    loaded = getRepositoryData(genToLoad);
-                    // We can cache serialized in the most recent version here without regard to the actual repository metadata version
-                    // since we're only caching the information that we just wrote and thus won't accidentally cache any information that
-                    // isn't safe
-                    cacheRepositoryData(
+                    final Tuple<RepositoryData, Long> loadedAndBlobLength = readRepositoryData(genToLoad);
+                    loaded = loadedAndBlobLength.v1();
+                    // Only re-serialize the loaded repository data if it can actually be cached, serializing it is expensive for
+                    // repositories that contain many snapshots. The index-N blob holds the same data serialized as json, so its length
+                    // tells whether it is too large before doing so.
+                    if (isRepositoryDataCacheEnabled() && canCacheRepositoryDataOfSize(loadedAndBlobLength.v2())) {
+                        // We can cache serialized in the most recent version here without regard to the actual repository metadata
+                        // version since we're only caching the information that we just wrote and thus won't accidentally cache any
+                        // information that isn't safe
+                        cacheRepositoryData(
                             BytesReference.bytes(loaded.snapshotsToXContent(XContentFactory.jsonBuilder(), Version.CURRENT)), genToLoad);
+                    }
                 }
                 listener.onResponse(loaded);
                 return;
@@ -1408,14 +1430,15 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
      * @param generation repository generation of the given repository data
      */
     private void cacheRepositoryData(BytesReference updated, long generation) {
-        if (cacheRepositoryData && bestEffortConsistency == false) {
+        if (isRepositoryDataCacheEnabled() && canCacheRepositoryDataOfSize(updated.length())) {
             final BytesReference serialized;
             try {
                 serialized = CompressorFactory.COMPRESSOR.compress(updated);
                 final int len = serialized.length();
-                if (len > ByteSizeUnit.KB.toBytes(500)) {
-                    logger.debug("Not caching repository data of size [{}] for repository [{}] because it is larger than 500KB in" +
-                        " serialized size", len, metadata.name());
+                if (len > cacheRepositoryDataMaxSize) {
+                    minUncacheableRepositoryDataSize = Math.min(minUncacheableRepositoryDataSize, updated.length());
+                    logger.debug("Not caching repository data of size [{}] for repository [{}] because it is larger than [{}] in" +
+                        " serialized size", len, metadata.name(), new ByteSizeValue(cacheRepositoryDataMaxSize));
                     if (len > ByteSizeUnit.MB.toBytes(5)) {
                         logger.warn("Your repository metadata blob for repository [{}] is larger than 5MB. Consider moving to a fresh" +
                             " repository for new snapshots or deleting unneeded snapshots from your repository to ensure stable" +
@@ -1425,6 +1448,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                     latestKnownRepositoryData.set(null);
                     return;
                 }
+                minUncacheableRepositoryDataSize = Long.MAX_VALUE;
             } catch (IOException e) {
                 assert false : new AssertionError("Impossible, no IO happens here", e);
                 logger.warn("Failed to serialize repository data", e);
@@ -1439,6 +1463,25 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }
     }
 
+    private boolean isRepositoryDataCacheEnabled() {
+        return cacheRepositoryData && bestEffortConsistency == false && cacheRepositoryDataMaxSize > 0;
+    }
+
+    /**
+     * Checks whether repository data of the given uncompressed serialized size may fit into the cache, clearing the cache if not. See
+     * {@link #minUncacheableRepositoryDataSize} for why this only approximates the compressed size that the cache limit applies to.
+     */
+    private boolean canCacheRepositoryDataOfSize(long serializedSize) {
+        if (serializedSize < minUncacheableRepositoryDataSize) {
+            return true;
+        }
+        logger.debug("Not caching repository data of serialized size [{}] for repository [{}] because repository data of serialized " +
+            "size [{}] was already too large to cache", serializedSize, metadata.name(), minUncacheableRepositoryDataSize);
+        // Set empty repository data to not waste heap for an outdated cached value
+        latestKnownRepositoryData.set(null);
+        return false;
+    }
+
     private RepositoryData repositoryDataFromCachedEntry(Tuple<Long, BytesReference> cacheEntry) throws IOException {
         try (InputStream input = CompressorFactory.COMPRESSOR.threadLocalInputStream(cacheEntry.v2().streamInput())) {
             return RepositoryData.snapshotsFromXContent(
@@ -1499,17 +1542,30 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
     }
 
     private RepositoryData getRepositoryData(long indexGen) {
+        return readRepositoryData(indexGen).v1();
+    }
+
+    /**
+     * Reads the repository data of the given generation.
+     *
+     * @return the repository data and the length of the {@code index-N} blob it was read from
+     */
+    private Tuple<RepositoryData, Long> readRepositoryData(long indexGen) {
         if (indexGen == RepositoryData.EMPTY_REPO_GEN) {
-            return RepositoryData.EMPTY;
+            return Tuple.tuple(RepositoryData.EMPTY, 0L);
         }
         try {
             final String snapshotsIndexBlobName = INDEX_FILE_PREFIX + Long.toString(indexGen);
 
             // EMPTY is safe here because RepositoryData#fromXContent calls namedObject
-            try (InputStream blob = blobContainer().readBlob(snapshotsIndexBlobName);
-                 XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
-                     LoggingDeprecationHandler.INSTANCE, blob)) {
-                return RepositoryData.snapshotsFromXContent(parser, indexGen, true);
+            final BytesReference blob;
+            try (InputStream in = blobContainer().readBlob(snapshotsIndexBlobName)) {
+                blob = Streams.readFully(in);
+            }
+            try (XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
+                     LoggingDeprecationHandler.INSTANCE, blob.streamInput())) {
+                final RepositoryData repositoryData = RepositoryData.snapshotsFromXContent(parser, indexGen, true);
+                return Tuple.tuple(repositoryData, (long) blob.length());
             }
         } catch (IOException ioe) {
             if (bestEffortConsistency) {
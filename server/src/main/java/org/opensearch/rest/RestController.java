@@ -40,15 +40,19 @@ import org.opensearch.client.node.NodeClient;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Strings;
 import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.CircuitBreakingException;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.logging.DeprecationLogger;
 import org.opensearch.common.path.PathTrie;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.internal.io.Streams;
+import org.opensearch.http.HttpChannel;
 import org.opensearch.http.HttpServerTransport;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.usage.UsageService;
@@ -56,13 +60,16 @@ import org.opensearch.usage.UsageService;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.InetSocketAddress;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -101,6 +108,12 @@ public class RestController implements HttpServerTransport.Dispatcher {
 
     private final CircuitBreakerService circuitBreakerService;
 
+    /** In-flight request bytes per remote address, only tracked while clients are limited to a share of the in-flight breaker. */
+    private final ConcurrentMap<String, Long> inFlightBytesPerClient = ConcurrentCollections.newConcurrentMap();
+
+    /** Requests rejected because their client was over its share, these don't count as trips of the in-flight requests breaker. */
+    private final AtomicLong inFlightRequestsClientRejectedCount = new AtomicLong();
+
     /** Rest headers that are copied to internal requests made during a rest request. */
     private final Set<RestHeaderDefinition> headersToCopy;
     private final UsageService usageService;
@@ -250,13 +263,20 @@ public class RestController implements HttpServerTransport.Dispatcher {
         }
         RestChannel responseChannel = channel;
         try {
-            if (handler.canTripCircuitBreaker()) {
-                inFlightRequestsBreaker(circuitBreakerService).addEstimateBytesAndMaybeBreak(contentLength, "<http_request>");
-            } else {
-                inFlightRequestsBreaker(circuitBreakerService).addWithoutBreaking(contentLength);
+            final String clientAddress = reserveClientBytes(request, handler, contentLength);
+            try {
+                if (handler.canTripCircuitBreaker()) {
+                    inFlightRequestsBreaker(circuitBreakerService).addEstimateBytesAndMaybeBreak(contentLength, "<http_request>");
+                } else {
+                    inFlightRequestsBreaker(circuitBreakerService).addWithoutBreaking(contentLength);
+                }
+            } catch (Exception e) {
+                releaseClientBytes(inFlightBytesPerClient, clientAddress, contentLength);
+                throw e;
             }
             // iff we could reserve bytes for the request we need to send the response also over this channel
-            responseChannel = new ResourceHandlingHttpChannel(channel, circuitBreakerService, contentLength);
+            responseChannel = new ResourceHandlingHttpChannel(channel, circuitBreakerService, contentLength,
+                inFlightBytesPerClient, clientAddress);
             // TODO: Count requests double in the circuit breaker if they need copying?
             if (handler.allowsUnsafeBuffers() == false) {
                 request.ensureSafeBuffers();
@@ -274,6 +294,52 @@ public class RestController implements HttpServerTransport.Dispatcher {
         }
     }
 
+    /**
+     * Charges the request content to the client it came from if clients are limited to a share of the in-flight requests breaker, so
+     * that a single client sending many large requests is rejected before it can use up the limit of the whole node.
+     *
+     * @return the address the bytes were charged to, or {@code null} if they were not charged to any client
+     */
+    @Nullable
+    private String reserveClientBytes(RestRequest request, RestHandler handler, int contentLength) {
+        final double clientRatio = circuitBreakerService.getInFlightRequestsClientRatio();
+        if (contentLength == 0 || clientRatio >= 1.0d || handler.canTripCircuitBreaker() == false) {
+            return null;
+        }
+        final HttpChannel httpChannel = request.getHttpChannel();
+        final InetSocketAddress remoteAddress = httpChannel == null ? null : httpChannel.getRemoteAddress();
+        if (remoteAddress == null) {
+            return null;
+        }
+        final CircuitBreaker breaker = inFlightRequestsBreaker(circuitBreakerService);
+        if (breaker.getLimit() <= 0) {
+            return null;
+        }
+        final String clientAddress = remoteAddress.getHostString();
+        final long used = inFlightBytesPerClient.merge(clientAddress, (long) contentLength, Long::sum);
+        final long bytesNeeded = (long) (used * breaker.getOverhead());
+        final long clientLimit = (long) (breaker.getLimit() * clientRatio);
+        if (bytesNeeded > clientLimit) {
+            releaseClientBytes(inFlightBytesPerClient, clientAddress, contentLength);
+            inFlightRequestsClientRejectedCount.incrementAndGet();
+            logger.debug("rejecting request from client [{}] that would hold [{}] in-flight bytes, more than its limit of [{}]",
+                clientAddress, bytesNeeded, clientLimit);
+            throw new CircuitBreakingException("[" + CircuitBreaker.IN_FLIGHT_REQUESTS + "] Data too large, data for [<http_request>]" +
+                " from client [" + clientAddress + "] would be [" + bytesNeeded + "/" + new ByteSizeValue(bytesNeeded) + "]" +
+                ", which is larger than the per-client limit of [" + clientLimit + "/" + new ByteSizeValue(clientLimit) + "]",
+                bytesNeeded, clientLimit, breaker.getDurability());
+        }
+        return clientAddress;
+    }
+
+    private static void releaseClientBytes(ConcurrentMap<String, Long> inFlightBytesPerClient, @Nullable String clientAddress,
+                                           long bytes) {
+        if (clientAddress != null) {
+            // drop the entry once the client has nothing in flight so that the map only holds active clients
+            inFlightBytesPerClient.computeIfPresent(clientAddress, (address, used) -> used == bytes ? null : used - bytes);
+        }
+    }
+
     private boolean handleNoHandlerFound(String rawPath, RestRequest.Method method, String uri, RestChannel channel) {
         // Get the map of matching handlers for a request, for the full set of HTTP methods.
         final Set<RestRequest.Method> validMethodSet = getValidHandlerMethodSet(rawPath);
@@ -468,12 +534,18 @@ public class RestController implements HttpServerTransport.Dispatcher {
         private final RestChannel delegate;
         private final CircuitBreakerService circuitBreakerService;
         private final int contentLength;
+        private final ConcurrentMap<String, Long> inFlightBytesPerClient;
+        @Nullable
+        private final String clientAddress;
         private final AtomicBoolean closed = new AtomicBoolean();
 
-        ResourceHandlingHttpChannel(RestChannel delegate, CircuitBreakerService circuitBreakerService, int contentLength) {
+        ResourceHandlingHttpChannel(RestChannel delegate, CircuitBreakerService circuitBreakerService, int contentLength,
+                                    ConcurrentMap<String, Long> inFlightBytesPerClient, @Nullable String clientAddress) {
             this.delegate = delegate;
             this.circuitBreakerService = circuitBreakerService;
             this.contentLength = contentLength;
+            this.inFlightBytesPerClient = inFlightBytesPerClient;
+            this.clientAddress = clientAddress;
         }
 
         @Override
@@ -524,10 +596,23 @@ public class RestController implements HttpServerTransport.Dispatcher {
                 throw new IllegalStateException("Channel is already closed");
             }
             inFlightRequestsBreaker(circuitBreakerService).addWithoutBreaking(-contentLength);
+            releaseClientBytes(inFlightBytesPerClient, clientAddress, contentLength);
         }
 
     }
 
+    /**
+     * @return the number of requests that were rejected because their client was over its share of the in-flight requests breaker
+     */
+    public long getInFlightRequestsClientRejectedCount() {
+        return inFlightRequestsClientRejectedCount.get();
+    }
+
+    // visible for testing
+    long getInFlightBytes(String clientAddress) {
+        return inFlightBytesPerClient.getOrDefault(clientAddress, 0L);
+    }
+
     private static CircuitBreaker inFlightRequestsBreaker(CircuitBreakerService circuitBreakerService) {
         // We always obtain a fresh breaker to reflect changes to the breaker configuration.
         return circuitBreakerService.getBreaker(CircuitBreaker.IN_FLIGHT_REQUESTS);
@@ -60,12 +60,17 @@ public class ScriptCache {
     private final Cache<CacheKey, Object> cache;
     private final ScriptMetrics scriptMetrics;
     final AtomicReference<TokenBucketState> tokenBucketState;
+    // the same bucket as for dynamic scripts unless a share of the rate is set aside for stored scripts
+    final AtomicReference<TokenBucketState> storedTokenBucketState;
 
     // Cache settings or derived from settings
     final int cacheSize;
     final TimeValue cacheExpire;
     final CompilationRate rate;
+    private final int compilesAllowed;
     private final double compilesAllowedPerNano;
+    private final int storedCompilesAllowed;
+    private final double storedCompilesAllowedPerNano;
     private final String contextRateSetting;
 
     ScriptCache(
@@ -73,6 +78,16 @@ public class ScriptCache {
             TimeValue cacheExpire,
             CompilationRate maxCompilationRate,
             String contextRateSetting
+    ) {
+        this(cacheMaxSize, cacheExpire, maxCompilationRate, contextRateSetting, 0.0);
+    }
+
+    ScriptCache(
+            int cacheMaxSize,
+            TimeValue cacheExpire,
+            CompilationRate maxCompilationRate,
+            String contextRateSetting,
+            double storedCompilationsRateShare
     ) {
         this.cacheSize = cacheMaxSize;
         this.cacheExpire = cacheExpire;
@@ -91,9 +106,20 @@ public class ScriptCache {
         this.cache = cacheBuilder.removalListener(new ScriptCacheRemovalListener()).build();
 
         this.rate = maxCompilationRate;
-        this.compilesAllowedPerNano = ((double) rate.count) / rate.time.nanos();
+        // split the rate between the buckets so that together they never allow more than the configured rate
+        int storedCount = 0;
+        if (storedCompilationsRateShare > 0 && rate.count > 1) {
+            // both buckets need to allow at least one compilation
+            storedCount = Math.min(rate.count - 1, Math.max(1, (int) Math.round(rate.count * storedCompilationsRateShare)));
+        }
+        this.compilesAllowed = rate.count - storedCount;
+        this.compilesAllowedPerNano = ((double) compilesAllowed) / rate.time.nanos();
+        this.storedCompilesAllowed = storedCount;
+        this.storedCompilesAllowedPerNano = ((double) storedCompilesAllowed) / rate.time.nanos();
         this.scriptMetrics = new ScriptMetrics();
-        this.tokenBucketState = new AtomicReference<TokenBucketState>(new TokenBucketState(this.rate.count));
+        this.tokenBucketState = new AtomicReference<TokenBucketState>(new TokenBucketState(compilesAllowed));
+        this.storedTokenBucketState = storedCount == 0 ? tokenBucketState :
+            new AtomicReference<TokenBucketState>(new TokenBucketState(storedCompilesAllowed));
     }
 
     <FactoryType> FactoryType compile(
@@ -118,8 +144,13 @@ public class ScriptCache {
                     logger.trace("context [{}]: compiling script, type: [{}], lang: [{}], options: [{}]", context.name, type,
                         lang, options);
                 }
-                // Check whether too many compilations have happened
-                checkCompilationLimit();
+                // Check whether too many compilations have happened. Stored scripts may have a share of the rate set aside so that
+                // recompiling them, e.g. after a node restart, doesn't use up the compilations that are available to dynamic scripts.
+                if (type == ScriptType.STORED) {
+                    checkStoredCompilationLimit();
+                } else {
+                    checkCompilationLimit();
+                }
                 Object compiledScript = scriptEngine.compile(id, idOrCode, context, options);
                 // Since the cache key is the script content itself we don't need to
                 // invalidate/check the cache if an indexed script changes.
@@ -163,18 +194,48 @@ public class ScriptCache {
      * is discarded - there can never be more water in the bucket than the size of the bucket.
      */
     void checkCompilationLimit() {
+        if (takeToken(tokenBucketState, compilesAllowed, compilesAllowedPerNano) == false) {
+            scriptMetrics.onCompilationLimit();
+            // Otherwise reject the request
+            throw new CircuitBreakingException("[script] Too many dynamic script compilations within, max: [" +
+                rate + "]; please use indexed, or scripts with parameters instead; " +
+                "this limit can be changed by the [" + contextRateSetting + "] setting",
+                CircuitBreaker.Durability.TRANSIENT);
+        }
+    }
+
+    /**
+     * Same as {@link #checkCompilationLimit()} for stored scripts. They share the bucket of dynamic scripts unless
+     * {@link ScriptService#SCRIPT_STORED_COMPILATIONS_RATE_SHARE_SETTING} sets aside a share of the rate for them. Stored scripts
+     * only need to be compiled again if they were evicted from the cache, so hitting their own limit means that the cache is too
+     * small for the stored scripts in use.
+     */
+    void checkStoredCompilationLimit() {
+        if (storedTokenBucketState == tokenBucketState) {
+            checkCompilationLimit();
+        } else if (takeToken(storedTokenBucketState, storedCompilesAllowed, storedCompilesAllowedPerNano) == false) {
+            scriptMetrics.onCompilationLimit();
+            throw new CircuitBreakingException("[script] Too many stored script compilations within, max: [" +
+                storedCompilesAllowed + "/" + rate.time + "]; stored scripts are evicted from the script cache before they can be " +
+                "reused, please increase the cache size; this limit can be changed by the [" + contextRateSetting + "] and [" +
+                ScriptService.SCRIPT_STORED_COMPILATIONS_RATE_SHARE_SETTING.getKey() + "] settings",
+                CircuitBreaker.Durability.TRANSIENT);
+        }
+    }
+
+    private boolean takeToken(AtomicReference<TokenBucketState> bucket, int compilesAllowed, double compilesAllowedPerNano) {
         if (rate.equals(UNLIMITED_COMPILATION_RATE)) {
-            return;
+            return true;
         }
 
-        TokenBucketState tokenBucketState = this.tokenBucketState.updateAndGet(current -> {
+        TokenBucketState tokenBucketState = bucket.updateAndGet(current -> {
             long now = System.nanoTime();
             long timePassed = now - current.lastInlineCompileTime;
             double scriptsPerTimeWindow = current.availableTokens + (timePassed) * compilesAllowedPerNano;
 
             // It's been over the time limit anyway, readjust the bucket to be level
-            if (scriptsPerTimeWindow > rate.count) {
-                scriptsPerTimeWindow = rate.count;
+            if (scriptsPerTimeWindow > compilesAllowed) {
+                scriptsPerTimeWindow = compilesAllowed;
             }
 
             // If there is enough tokens in the bucket, allow the request and decrease the tokens by 1
@@ -186,14 +247,7 @@ public class ScriptCache {
             }
         });
 
-        if(!tokenBucketState.tokenSuccessfullyTaken) {
-            scriptMetrics.onCompilationLimit();
-            // Otherwise reject the request
-            throw new CircuitBreakingException("[script] Too many dynamic script compilations within, max: [" +
-                rate + "]; please use indexed, or scripts with parameters instead; " +
-                "this limit can be changed by the [" + contextRateSetting + "] setting",
-                CircuitBreaker.Durability.TRANSIENT);
-        }
+        return tokenBucketState.tokenSuccessfullyTaken;
     }
 
     /**
@@ -125,6 +125,11 @@ public class ScriptService implements Closeable, ClusterStateApplier {
     public static final Setting<Boolean> SCRIPT_DISABLE_MAX_COMPILATIONS_RATE_SETTING =
         Setting.boolSetting("script.disable_max_compilations_rate", false, Property.NodeScope);
 
+    // share of each compilation rate that is set aside for stored scripts in a bucket of their own, so that recompiling them doesn't use
+    // up the compilations available to dynamic scripts; the total rate stays the same, and by default both share the whole rate
+    public static final Setting<Double> SCRIPT_STORED_COMPILATIONS_RATE_SHARE_SETTING =
+        Setting.doubleSetting("script.stored_compilations_rate_share", 0.0, 0.0, 1.0, Property.NodeScope);
+
     public static final String ALLOW_NONE = "none";
 
     public static final Setting<List<String>> TYPES_ALLOWED_SETTING =
@@ -142,6 +147,8 @@ public class ScriptService implements Closeable, ClusterStateApplier {
 
     private int maxSizeInBytes;
 
+    private final double storedCompilationsRateShare;
+
     // package private for tests
     final AtomicReference<CacheHolder> cacheHolder = new AtomicReference<>();
 
@@ -223,6 +230,7 @@ public class ScriptService implements Closeable, ClusterStateApplier {
         }
 
         this.setMaxSizeInBytes(SCRIPT_MAX_SIZE_IN_BYTES.get(settings));
+        this.storedCompilationsRateShare = SCRIPT_STORED_COMPILATIONS_RATE_SHARE_SETTING.get(settings);
 
         // Validation requires knowing which contexts exist.
         this.validateCacheSettings(settings);
@@ -600,7 +608,8 @@ public class ScriptService implements Closeable, ClusterStateApplier {
 
     CacheHolder generalCacheHolder(Settings settings) {
         return new CacheHolder(SCRIPT_GENERAL_CACHE_SIZE_SETTING.get(settings), SCRIPT_GENERAL_CACHE_EXPIRE_SETTING.get(settings),
-            SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING.get(settings), SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING.getKey());
+            SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING.get(settings), SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING.getKey(),
+            storedCompilationsRateShare);
     }
 
     CacheHolder contextCacheHolder(Settings settings) {
@@ -628,7 +637,7 @@ public class ScriptService implements Closeable, ClusterStateApplier {
             rate = new ScriptCache.CompilationRate(context.maxCompilationRateDefault);
         }
 
-        return new ScriptCache(cacheSize, cacheExpire, rate, rateSetting.getKey());
+        return new ScriptCache(cacheSize, cacheExpire, rate, rateSetting.getKey(), storedCompilationsRateShare);
     }
 
     /**
@@ -640,9 +649,10 @@ public class ScriptService implements Closeable, ClusterStateApplier {
         final ScriptCache general;
         final Map<String, AtomicReference<ScriptCache>> contextCache;
 
-        CacheHolder(int cacheMaxSize, TimeValue cacheExpire, ScriptCache.CompilationRate maxCompilationRate, String contextRateSetting) {
+        CacheHolder(int cacheMaxSize, TimeValue cacheExpire, ScriptCache.CompilationRate maxCompilationRate, String contextRateSetting,
+                    double storedCompilationsRateShare) {
             contextCache = null;
-            general = new ScriptCache(cacheMaxSize, cacheExpire, maxCompilationRate, contextRateSetting);
+            general = new ScriptCache(cacheMaxSize, cacheExpire, maxCompilationRate, contextRateSetting, storedCompilationsRateShare);
         }
 
         CacheHolder(Map<String, ScriptCache> context) {
@@ -60,6 +60,8 @@ import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.CollectionUtils;
@@ -181,6 +183,14 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     public static final Setting<Integer> MAX_OPEN_SCROLL_CONTEXT =
         Setting.intSetting("search.max_open_scroll_context", 500, 0, Property.Dynamic, Property.NodeScope);
 
+    /**
+     * Estimated heap retained by each open scroll context (the shard request, the scroll state and the pinned searcher).
+     * It is accounted on the request circuit breaker for as long as the scroll context is open.
+     */
+    public static final Setting<ByteSizeValue> SCROLL_CONTEXT_MEMORY_ESTIMATE =
+        Setting.byteSizeSetting("search.scroll_context_memory_estimate", new ByteSizeValue(1, ByteSizeUnit.KB),
+            new ByteSizeValue(0), new ByteSizeValue(Integer.MAX_VALUE), Property.Dynamic, Property.NodeScope);
+
     public static final int DEFAULT_SIZE = 10;
     public static final int DEFAULT_FROM = 0;
 
@@ -214,6 +224,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private volatile int maxOpenScrollContext;
 
+    private volatile long scrollContextMemoryEstimate;
+
+    private final CircuitBreaker requestBreaker;
+
     private final Cancellable keepAliveReaper;
 
     private final AtomicLong idGenerator = new AtomicLong();
@@ -237,8 +251,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.bigArrays = bigArrays;
         this.queryPhase = new QueryPhase();
         this.fetchPhase = fetchPhase;
-        this.multiBucketConsumerService = new MultiBucketConsumerService(clusterService, settings,
-            circuitBreakerService.getBreaker(CircuitBreaker.REQUEST));
+        this.requestBreaker = circuitBreakerService.getBreaker(CircuitBreaker.REQUEST);
+        this.multiBucketConsumerService = new MultiBucketConsumerService(clusterService, settings, requestBreaker);
 
         TimeValue keepAliveInterval = KEEPALIVE_INTERVAL_SETTING.get(settings);
         setKeepAlives(DEFAULT_KEEPALIVE_SETTING.get(settings), MAX_KEEPALIVE_SETTING.get(settings));
@@ -258,6 +272,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         maxOpenScrollContext = MAX_OPEN_SCROLL_CONTEXT.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(MAX_OPEN_SCROLL_CONTEXT, this::setMaxOpenScrollContext);
 
+        scrollContextMemoryEstimate = SCROLL_CONTEXT_MEMORY_ESTIMATE.get(settings).getBytes();
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(SCROLL_CONTEXT_MEMORY_ESTIMATE,
+            this::setScrollContextMemoryEstimate);
+
         lowLevelCancellation = LOW_LEVEL_CANCELLATION_SETTING.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(LOW_LEVEL_CANCELLATION_SETTING, this::setLowLevelCancellation);
     }
@@ -292,6 +310,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.maxOpenScrollContext = maxOpenScrollContext;
     }
 
+    private void setScrollContextMemoryEstimate(ByteSizeValue scrollContextMemoryEstimate) {
+        this.scrollContextMemoryEstimate = scrollContextMemoryEstimate.getBytes();
+    }
+
     private void setLowLevelCancellation(Boolean lowLevelCancellation) {
         this.lowLevelCancellation = lowLevelCancellation;
     }
@@ -554,6 +576,18 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         return threadPool.executor(executorName);
     }
 
+    /**
+     * Returns the executor for the fetch phase of a search whose query phase already ran. It uses a dedicated pool
+     * so that fetching the hits of in-flight searches doesn't wait behind expensive query phases.
+     */
+    private Executor getFetchExecutor(IndexShard indexShard) {
+        assert indexShard != null;
+        if (indexShard.isSystem() || indexShard.indexSettings().isSearchThrottled()) {
+            return getExecutor(indexShard);
+        }
+        return threadPool.executor(Names.SEARCH_FETCH);
+    }
+
     public void executeFetchPhase(InternalScrollSearchRequest request, SearchShardTask task,
                                   ActionListener<ScrollQueryFetchSearchResult> listener) {
         final LegacyReaderContext readerContext = (LegacyReaderContext) findReaderContext(request.contextId(), request);
@@ -589,7 +623,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         final ReaderContext readerContext = findReaderContext(request.contextId(), request);
         final ShardSearchRequest shardSearchRequest = readerContext.getShardSearchRequest(request.getShardSearchRequest());
         final Releasable markAsUsed = readerContext.markAsUsed(getKeepAlive(shardSearchRequest));
-        runAsync(getExecutor(readerContext.indexShard()), () -> {
+        runAsync(getFetchExecutor(readerContext.indexShard()), () -> {
             try (SearchContext searchContext = createContext(readerContext, shardSearchRequest, task, false)) {
                 if (request.lastEmittedDoc() != null) {
                     searchContext.scrollContext().lastEmittedDoc = request.lastEmittedDoc();
@@ -661,6 +695,11 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                             maxOpenScrollContext + "]. " + "This limit can be set by changing the ["
                             + MAX_OPEN_SCROLL_CONTEXT.getKey() + "] setting.");
                 }
+                // the context is released with the same estimate even if the setting is updated in the meantime
+                final long memoryEstimate = scrollContextMemoryEstimate;
+                requestBreaker.addEstimateBytesAndMaybeBreak(memoryEstimate, "<scroll_context>");
+                decreaseScrollContexts = Releasables.wrap(decreaseScrollContexts,
+                    () -> requestBreaker.addWithoutBreaking(-memoryEstimate));
             }
             final long keepAlive = getKeepAlive(request);
             final ShardSearchContextId id = new ShardSearchContextId(sessionId, idGenerator.incrementAndGet());
@@ -137,7 +137,6 @@ public class FetchPhase {
         int currentReaderIndex = -1;
         LeafReaderContext currentReaderContext = null;
         CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
-        boolean hasSequentialDocs = hasSequentialDocs(docs);
         for (int index = 0; index < context.docIdsToLoadSize(); index++) {
             if (context.isCancelled()) {
                 throw new TaskCancelledException("cancelled");
@@ -148,9 +147,15 @@ public class FetchPhase {
                 if (currentReaderIndex != readerIndex) {
                     currentReaderContext = context.searcher().getIndexReader().leaves().get(readerIndex);
                     currentReaderIndex = readerIndex;
+                    // docs are sorted so all docs of this segment directly follow the current one
+                    final int leafMaxDocId = currentReaderContext.docBase + currentReaderContext.reader().maxDoc();
+                    int leafEnd = index + 1;
+                    while (leafEnd < docs.length && docs[leafEnd].docId < leafMaxDocId) {
+                        leafEnd++;
+                    }
                     if (currentReaderContext.reader() instanceof SequentialStoredFieldsLeafReader
-                            && hasSequentialDocs && docs.length >= 10) {
-                        // All the docs to fetch are adjacent but Lucene stored fields are optimized
+                            && leafEnd - index >= 10 && hasSequentialDocs(docs, index, leafEnd)) {
+                        // All the docs to fetch from this segment are adjacent but Lucene stored fields are optimized
                         // for random access and don't optimize for sequential access - except for merging.
                         // So we do a little hack here and pretend we're going to do merges in order to
                         // get better sequential access.
@@ -585,10 +590,9 @@ public class FetchPhase {
     }
 
     /**
-     * Returns <code>true</code> if the provided <code>docs</code> are
-     * stored sequentially (Dn = Dn-1 + 1).
+     * Returns whether the sorted docs in the range from {@code from} (inclusive) to {@code to} (exclusive) are adjacent.
      */
-    static boolean hasSequentialDocs(DocIdToIndex[] docs) {
-        return docs.length > 0 && docs[docs.length-1].docId - docs[0].docId == docs.length - 1;
+    static boolean hasSequentialDocs(DocIdToIndex[] docs, int from, int to) {
+        return to > from && docs[to - 1].docId - docs[from].docId == to - from - 1;
     }
 }
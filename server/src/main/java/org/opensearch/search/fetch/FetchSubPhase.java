@@ -35,10 +35,13 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.ReaderUtil;
+import org.opensearch.common.Nullable;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.lookup.SourceLookup;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Sub phase within the fetch phase used to fetch things *about* the documents like highlighting or matched queries.
@@ -50,6 +53,7 @@ public interface FetchSubPhase {
         private final LeafReaderContext readerContext;
         private final int docId;
         private final SourceLookup sourceLookup;
+        private Map<String, List<Object>> preloadedStoredFields;
 
         public HitContext(
             SearchHit hit,
@@ -97,6 +101,19 @@ public interface FetchSubPhase {
         public IndexReader topLevelReader() {
             return ReaderUtil.getTopLevelContext(readerContext).reader();
         }
+
+        /**
+         * The values of the stored fields that a sub phase loaded for this hit at once rather than field by field, or
+         * {@code null} if none were loaded.
+         */
+        @Nullable
+        public Map<String, List<Object>> preloadedStoredFields() {
+            return preloadedStoredFields;
+        }
+
+        public void preloadedStoredFields(Map<String, List<Object>> preloadedStoredFields) {
+            this.preloadedStoredFields = preloadedStoredFields;
+        }
     }
 
     /**
@@ -33,6 +33,7 @@
 package org.opensearch.search.fetch.subphase;
 
 import org.opensearch.common.Booleans;
+import org.opensearch.common.CheckedFunction;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.ParsingException;
 import org.opensearch.common.Strings;
@@ -66,6 +67,7 @@ public class FetchSourceContext implements Writeable, ToXContentObject {
     private final String[] includes;
     private final String[] excludes;
     private Function<Map<String, ?>, Map<String, Object>> filter;
+    private CheckedFunction<XContentParser, Map<String, Object>, IOException> parsingFilter;
 
     public FetchSourceContext(boolean fetchSource, String[] includes, String[] excludes) {
         this.fetchSource = fetchSource;
@@ -247,4 +249,15 @@ public class FetchSourceContext implements Writeable, ToXContentObject {
         }
         return filter;
     }
+
+    /**
+     * Returns a filter function that reads the source from a parser and returns the filtered map, skipping the
+     * parts of the source that are filtered out instead of parsing them.
+     */
+    public CheckedFunction<XContentParser, Map<String, Object>, IOException> getParsingFilter() {
+        if (parsingFilter == null) {
+            parsingFilter = XContentMapValues.filterWhileParsing(includes, excludes);
+        }
+        return parsingFilter;
+    }
 }
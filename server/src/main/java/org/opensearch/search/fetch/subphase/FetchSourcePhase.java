@@ -56,6 +56,10 @@ public final class FetchSourcePhase implements FetchSubPhase {
         }
         String index = fetchContext.getIndexName();
         assert fetchSourceContext.fetchSource();
+        // highlighting, the fields option and inner hits read the parsed source after this phase, so only filter while parsing
+        // when none of them is used, otherwise the source would be parsed once here and once more for them
+        final boolean filterWhileParsing = fetchContext.highlight() == null && fetchContext.fetchFieldsContext() == null
+            && fetchContext.innerHits() == null;
 
         return new FetchSubPhaseProcessor() {
             @Override
@@ -65,12 +69,12 @@ public final class FetchSourcePhase implements FetchSubPhase {
 
             @Override
             public void process(HitContext hitContext) {
-                hitExecute(index, fetchSourceContext, hitContext);
+                hitExecute(index, fetchSourceContext, filterWhileParsing, hitContext);
             }
         };
     }
 
-    private void hitExecute(String index, FetchSourceContext fetchSourceContext, HitContext hitContext) {
+    private void hitExecute(String index, FetchSourceContext fetchSourceContext, boolean filterWhileParsing, HitContext hitContext) {
 
         final boolean nestedHit = hitContext.hit().getNestedIdentity() != null;
         SourceLookup source = hitContext.sourceLookup();
@@ -91,7 +95,7 @@ public final class FetchSourcePhase implements FetchSubPhase {
         }
 
         // Otherwise, filter the source and add it to the hit.
-        Object value = source.filter(fetchSourceContext);
+        Object value = filterWhileParsing ? source.filterWhileParsing(fetchSourceContext) : source.filter(fetchSourceContext);
         if (nestedHit) {
             value = getNestedSource((Map<String, Object>) value, hitContext);
         }
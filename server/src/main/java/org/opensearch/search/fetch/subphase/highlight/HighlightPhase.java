@@ -47,8 +47,10 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 public class HighlightPhase implements FetchSubPhase {
@@ -70,8 +72,9 @@ public class HighlightPhase implements FetchSubPhase {
 
     public FetchSubPhaseProcessor getProcessor(FetchContext context, SearchHighlightContext highlightContext, Query query) {
         Map<String, Object> sharedCache = new HashMap<>();
+        Set<String> storedFields = new HashSet<>();
         Map<String, Function<HitContext, FieldHighlightContext>> contextBuilders = contextBuilders(
-            context, highlightContext, query, sharedCache);
+            context, highlightContext, query, sharedCache, storedFields);
 
         return new FetchSubPhaseProcessor() {
             @Override
@@ -81,6 +84,10 @@ public class HighlightPhase implements FetchSubPhase {
 
             @Override
             public void process(HitContext hitContext) throws IOException {
+                if (storedFields.size() > 1) {
+                    // load all the stored fields to highlight at once rather than once per field
+                    HighlightUtils.preloadStoredFields(storedFields, hitContext);
+                }
                 Map<String, HighlightField> highlightFields = new HashMap<>();
                 for (String field : contextBuilders.keySet()) {
                     FieldHighlightContext fieldContext = contextBuilders.get(field).apply(hitContext);
@@ -112,10 +119,20 @@ public class HighlightPhase implements FetchSubPhase {
         return highlighter;
     }
 
+    /**
+     * Whether the highlighter loads the stored fields to highlight with {@link HighlightUtils#loadFieldValues}, which is the
+     * only place that reads the stored fields preloaded by {@link HighlightUtils#preloadStoredFields}.
+     */
+    // pkg private for testing
+    static boolean readsStoredFieldsThroughHighlightUtils(Highlighter highlighter) {
+        return highlighter instanceof PlainHighlighter || highlighter instanceof UnifiedHighlighter;
+    }
+
     private Map<String, Function<HitContext, FieldHighlightContext>> contextBuilders(FetchContext context,
                                                                                      SearchHighlightContext highlightContext,
                                                                                      Query query,
-                                                                                     Map<String, Object> sharedCache) {
+                                                                                     Map<String, Object> sharedCache,
+                                                                                     Set<String> storedFields) {
         Map<String, Function<HitContext, FieldHighlightContext>> builders = new LinkedHashMap<>();
         for (SearchHighlightContext.Field field : highlightContext.fields()) {
             Highlighter highlighter = getHighlighter(field);
@@ -162,6 +179,9 @@ public class HighlightPhase implements FetchSubPhase {
                 Query highlightQuery = field.fieldOptions().highlightQuery();
 
                 boolean forceSource = highlightContext.forceSource(field);
+                if (forceSource == false && fieldType.isStored() && readsStoredFieldsThroughHighlightUtils(highlighter)) {
+                    storedFields.add(fieldType.name());
+                }
                 builders.put(fieldName,
                     hc -> new FieldHighlightContext(fieldType.name(), field, fieldType, context, hc,
                         highlightQuery == null ? query : highlightQuery, forceSource, sharedCache));
@@ -41,7 +41,10 @@ import org.opensearch.search.lookup.SourceLookup;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static java.util.Collections.singleton;
 
@@ -55,6 +58,22 @@ public final class HighlightUtils {
 
     }
 
+    /**
+     * Loads the provided stored fields of the hit with a single visit of its stored fields and keeps them on the hit
+     * so that highlighting several stored fields of the same document doesn't decompress the document once per field.
+     */
+    public static void preloadStoredFields(Set<String> fieldNames, FetchSubPhase.HitContext hitContext) throws IOException {
+        CustomFieldsVisitor fieldVisitor = new CustomFieldsVisitor(fieldNames, false);
+        hitContext.reader().document(hitContext.docId(), fieldVisitor);
+        Map<String, List<Object>> preloadedFields = new HashMap<>();
+        for (String fieldName : fieldNames) {
+            List<Object> values = fieldVisitor.fields().get(fieldName);
+            // Can happen if the document doesn't have the field to highlight
+            preloadedFields.put(fieldName, values == null ? Collections.emptyList() : values);
+        }
+        hitContext.preloadedStoredFields(preloadedFields);
+    }
+
     /**
      * Load field values for highlighting.
      */
@@ -64,6 +83,10 @@ public final class HighlightUtils {
         //percolator needs to always load from source, thus it sets the global force source to true
         List<Object> textsToHighlight;
         if (forceSource == false && fieldType.isStored()) {
+            Map<String, List<Object>> preloadedFields = hitContext.preloadedStoredFields();
+            if (preloadedFields != null && preloadedFields.containsKey(fieldType.name())) {
+                return preloadedFields.get(fieldType.name());
+            }
             CustomFieldsVisitor fieldVisitor = new CustomFieldsVisitor(singleton(fieldType.name()), false);
             hitContext.reader().document(hitContext.docId(), fieldVisitor);
             textsToHighlight = fieldVisitor.fields().get(fieldType.name());
@@ -70,6 +70,7 @@ import org.opensearch.tasks.TaskId;
 import org.opensearch.transport.TransportRequest;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -104,6 +105,9 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
     private final ShardSearchContextId readerId;
     private final TimeValue keepAlive;
 
+    // only set on the coordinating node, never serialized
+    private SerializedSourceCache serializedSourceCache;
+
     public ShardSearchRequest(OriginalIndices originalIndices,
                               SearchRequest searchRequest,
                               ShardId shardId,
@@ -276,7 +280,12 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
             out.writeVInt(numberOfShards);
         }
         out.writeOptionalWriteable(scroll);
-        out.writeOptionalWriteable(source);
+        if (asKey == false && source != null && serializedSourceCache != null) {
+            out.writeBoolean(true);
+            serializedSourceCache.get(source, out.getVersion()).writeTo(out);
+        } else {
+            out.writeOptionalWriteable(source);
+        }
         out.writeStringArray(types);
         aliasFilter.writeTo(out);
         out.writeFloat(indexBoost);
@@ -344,6 +353,8 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
 
     public void source(SearchSourceBuilder source) {
         this.source = source;
+        // the shared cache holds the serialized form of the original source
+        this.serializedSourceCache = null;
     }
 
     public int numberOfShards() {
@@ -409,6 +420,42 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         this.canReturnNullResponseIfMatchNoDocs = value;
     }
 
+    /**
+     * Sets a cache of the serialized source that is shared by all the shard requests of the same search, so that the
+     * source is serialized once per wire version rather than once per shard request. The cache is only used by
+     * {@link #writeTo}, and it is dropped when the source is replaced. Clones don't share it.
+     */
+    public void setSerializedSourceCache(SerializedSourceCache serializedSourceCache) {
+        this.serializedSourceCache = serializedSourceCache;
+    }
+
+    /**
+     * Holds the serialized forms of the {@link SearchSourceBuilder} of a search, one per wire version. Requests drop the
+     * cache when their source is replaced, so it only ever sees the source of the search it was created for.
+     */
+    public static final class SerializedSourceCache {
+        private SearchSourceBuilder source;
+        private final Map<Version, BytesReference> bytesByVersion = new HashMap<>();
+
+        synchronized BytesReference get(SearchSourceBuilder source, Version version) throws IOException {
+            if (this.source != source) {
+                assert this.source == null : "the serialized source cache is shared by requests with different sources";
+                this.source = source;
+                bytesByVersion.clear();
+            }
+            BytesReference bytes = bytesByVersion.get(version);
+            if (bytes == null) {
+                try (BytesStreamOutput out = new BytesStreamOutput()) {
+                    out.setVersion(version);
+                    source.writeTo(out);
+                    bytes = out.copyBytes();
+                }
+                bytesByVersion.put(version, bytes);
+            }
+            return bytes;
+        }
+    }
+
     private static final ThreadLocal<BytesStreamOutput> scratch = ThreadLocal.withInitial(BytesStreamOutput::new);
 
     /**
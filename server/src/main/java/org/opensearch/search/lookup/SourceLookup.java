@@ -39,7 +39,10 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.lucene.index.SequentialStoredFieldsLeafReader;
+import org.opensearch.common.xcontent.DeprecationHandler;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.support.XContentMapValues;
 import org.opensearch.index.fieldvisitor.FieldsVisitor;
@@ -195,6 +198,30 @@ public class SourceLookup implements Map {
         return context.getFilter().apply(loadSourceIfNeeded());
     }
 
+    /**
+     * Like {@link #filter(FetchSourceContext)}, but if the source hasn't been parsed yet it is filtered while parsing, skipping
+     * everything that is filtered out. The parsed source is not kept, so this should only be used if nothing else needs the whole
+     * source of the current document, otherwise it ends up being parsed twice.
+     */
+    public Object filterWhileParsing(FetchSourceContext context) {
+        if (source == null && sourceAsBytes != null) {
+            try (XContentParser parser = createSourceParser(sourceAsBytes)) {
+                return context.getParsingFilter().apply(parser);
+            } catch (IOException e) {
+                throw new OpenSearchParseException("failed to parse / filter source", e);
+            }
+        }
+        return context.getFilter().apply(loadSourceIfNeeded());
+    }
+
+    @SuppressWarnings("deprecation") // like sourceAsMapAndType, the content type is detected since it may differ between documents
+    private XContentParser createSourceParser(BytesReference bytes) throws IOException {
+        XContentParser parser = XContentHelper.createParser(NamedXContentRegistry.EMPTY, DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+            bytes);
+        sourceContentType = parser.contentType();
+        return parser;
+    }
+
     @Override
     public Object get(Object key) {
         return loadSourceIfNeeded().get(key);
@@ -270,6 +270,11 @@ public class QueryPhase {
                     sortAndFormatsForRewrittenNumericSort = searchContext.sort(); // stash SortAndFormats to restore it later
                     searchContext.sort(new SortAndFormats(new Sort(newSortFields), newFormats));
                     leafSorter = createLeafSorter(oldSortFields[0]);
+                } else {
+                    Query prunedQuery = tryPruneNonCompetitiveLongSort(searchContext, searcher.getIndexReader(), query);
+                    if (prunedQuery != null) {
+                        query = prunedQuery;
+                    }
                 }
             }
 
@@ -505,6 +510,78 @@ public class QueryPhase {
         return rewrittenQuery;
     }
 
+    /**
+     * Restricts the query to the documents that can still be competitive on the primary numeric sort when the
+     * request doesn't need to count hits. The lower (or upper for descending sorts) bound is the <code>search_after</code>
+     * value, or the last document emitted by the shard for scroll pages after the first one, and the other bound is the
+     * bottom sort value that the coordinating node collected from the shards that already responded. Both bounds are
+     * inclusive since ties are resolved on the secondary sorts. The range is executed on points so that large blocks of
+     * non-competitive documents are skipped rather than collected and rejected one by one.
+     * Returns <code>null</code> if the optimization cannot be applied.
+     */
+    static Query tryPruneNonCompetitiveLongSort(SearchContext searchContext, IndexReader reader, Query query) throws IOException {
+        if ((searchContext.from() + searchContext.size()) <= 0) return null;
+        final ScoreDoc after;
+        final ScrollContext scrollContext = searchContext.scrollContext();
+        if (scrollContext != null) {
+            // pages after the first one don't count hits, they resume after the last doc emitted by the shard
+            if (scrollContext.totalHits == null) return null;
+            after = scrollContext.lastEmittedDoc;
+        } else {
+            // pruning changes the number of matching documents so it can only be applied when hits are not counted
+            if (searchContext.trackTotalHitsUpTo() != SearchContext.TRACK_TOTAL_HITS_DISABLED) return null;
+            after = searchContext.searchAfter();
+        }
+        if (searchContext.collapse() != null) return null;
+        if (searchContext.aggregations() != null) return null;
+        if (searchContext.queryCollectors().isEmpty() == false) return null;
+        if (searchContext.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER) return null;
+
+        SortField sortField = searchContext.sort().sort.getSort()[0];
+        // custom comparators (nested sorts, numeric type conversions, avg/sum/median modes) report a CUSTOM type
+        if (SortField.Type.LONG.equals(IndexSortConfig.getSortFieldType(sortField)) == false) return null;
+        String fieldName = sortField.getField();
+        if (fieldName == null) return null;
+        if (searchContext.mapperService() == null) return null; // mapperService can be null in tests
+        final MappedFieldType fieldType = searchContext.mapperService().fieldType(fieldName);
+        if (fieldType == null) return null;
+        if ((fieldType.typeName().equals("long") == false) && (fieldType instanceof DateFieldType == false)) return null;
+        if (fieldType.isSearchable() == false) return null;
+        // documents without a value would be excluded by the range even though they might be competitive
+        if (PointValues.getDocCount(reader, fieldName) != reader.maxDoc()) return null;
+
+        final boolean reverse = sortField.getReverse();
+        Long afterValue = null;
+        if (after instanceof FieldDoc) {
+            Object[] afterFields = ((FieldDoc) after).fields;
+            if (afterFields != null && afterFields.length > 0 && afterFields[0] instanceof Long) {
+                afterValue = (Long) afterFields[0];
+            }
+        }
+        Long bottomValue = null;
+        if (searchContext.request() != null && searchContext.request().getBottomSortValues() != null) {
+            Object[] bottomSortValues = searchContext.request().getBottomSortValues().getRawSortValues();
+            if (bottomSortValues.length > 0 && bottomSortValues[0] instanceof Long) {
+                bottomValue = (Long) bottomSortValues[0];
+            }
+        }
+        if (afterValue == null && bottomValue == null) return null;
+
+        long lowerValue = Long.MIN_VALUE;
+        long upperValue = Long.MAX_VALUE;
+        if (reverse) {
+            if (afterValue != null) upperValue = afterValue;
+            if (bottomValue != null) lowerValue = bottomValue;
+        } else {
+            if (afterValue != null) lowerValue = afterValue;
+            if (bottomValue != null) upperValue = bottomValue;
+        }
+        return new BooleanQuery.Builder()
+            .add(query, BooleanClause.Occur.MUST)
+            .add(LongPoint.newRangeQuery(fieldName, lowerValue, upperValue), BooleanClause.Occur.FILTER)
+            .build();
+    }
+
     /**
      * Creates a sorter of {@link LeafReaderContext} that orders leaves depending on the minimum
      * value and the sort order of the provided <code>sortField</code>.
@@ -44,6 +44,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
 
 /**
  * A connection profile describes how many connection are established to specific node for each of the available request types.
@@ -337,11 +338,34 @@ public final class ConnectionProfile {
          * fashion.
          */
         <T> T getChannel(List<T> channels) {
+            return getChannel(channels, channel -> 0L);
+        }
+
+        /**
+         * Returns one of the channels out configured for this handle. Channels are tried in a round-robin fashion and
+         * the first one without pending bytes is returned. If all of them are busy the one with the fewest pending bytes
+         * is returned, so that a small message doesn't queue up behind a large one on a channel of the same type.
+         */
+        <T> T getChannel(List<T> channels, ToLongFunction<T> pendingBytes) {
             if (length == 0) {
                 throw new IllegalStateException("can't select channel size is 0 for types: " + types);
             }
             assert channels.size() >= offset + length : "illegal size: " + channels.size() + " expected >= " + (offset + length);
-            return channels.get(offset + Math.floorMod(counter.incrementAndGet(), length));
+            final int start = Math.floorMod(counter.incrementAndGet(), length);
+            T leastBusy = null;
+            long leastPendingBytes = Long.MAX_VALUE;
+            for (int i = 0; i < length; i++) {
+                final T channel = channels.get(offset + (start + i) % length);
+                final long channelPendingBytes = pendingBytes.applyAsLong(channel);
+                if (channelPendingBytes <= 0) {
+                    return channel;
+                }
+                if (channelPendingBytes < leastPendingBytes) {
+                    leastBusy = channel;
+                    leastPendingBytes = channelPendingBytes;
+                }
+            }
+            return leastBusy;
         }
 
         /**
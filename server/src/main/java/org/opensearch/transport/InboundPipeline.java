@@ -152,7 +152,18 @@ public class InboundPipeline implements Releasable {
                 assert aggregator.isAggregating();
                 try (InboundMessage aggregated = aggregator.finishAggregation()) {
                     statsTracker.markMessageReceived();
-                    messageHandler.accept(channel, aggregated);
+                    final Header header = aggregated.getHeader();
+                    if (header.isRequest() && header.needsToReadVariableHeader() == false) {
+                        final long startNanos = System.nanoTime();
+                        try {
+                            messageHandler.accept(channel, aggregated);
+                        } finally {
+                            statsTracker.markRequestReceived(header.getActionName(), header.getNetworkMessageSize(),
+                                System.nanoTime() - startNanos);
+                        }
+                    } else {
+                        messageHandler.accept(channel, aggregated);
+                    }
                 }
             } else {
                 assert aggregator.isAggregating();
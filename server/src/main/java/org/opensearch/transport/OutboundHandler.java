@@ -40,6 +40,7 @@ import org.opensearch.action.ActionListener;
 import org.opensearch.action.NotifyOnceListener;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
@@ -78,7 +79,7 @@ final class OutboundHandler {
     }
 
     void sendBytes(TcpChannel channel, BytesReference bytes, ActionListener<Void> listener) {
-        SendContext sendContext = new SendContext(channel, () -> bytes, listener);
+        SendContext sendContext = new SendContext(channel, () -> bytes, null, listener, null);
         try {
             internalSend(channel, sendContext);
         } catch (IOException e) {
@@ -99,7 +100,7 @@ final class OutboundHandler {
             requestId, isHandshake, compressRequest);
         ActionListener<Void> listener = ActionListener.wrap(() ->
             messageListener.onRequestSent(node, requestId, action, request, options));
-        sendMessage(channel, message, listener);
+        sendMessage(channel, message, null, listener);
     }
 
     /**
@@ -115,7 +116,7 @@ final class OutboundHandler {
         OutboundMessage.Response message = new OutboundMessage.Response(threadPool.getThreadContext(), features, response, version,
             requestId, isHandshake, compress);
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onResponseSent(requestId, action, response));
-        sendMessage(channel, message, listener);
+        sendMessage(channel, message, action, listener);
     }
 
     /**
@@ -129,18 +130,23 @@ final class OutboundHandler {
         OutboundMessage.Response message = new OutboundMessage.Response(threadPool.getThreadContext(), features, tx, version, requestId,
             false, false);
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onResponseSent(requestId, action, error));
-        sendMessage(channel, message, listener);
+        sendMessage(channel, message, action, listener);
     }
 
-    private void sendMessage(TcpChannel channel, OutboundMessage networkMessage, ActionListener<Void> listener) throws IOException {
+    /**
+     * @param responseAction the action that a response is sent for, or {@code null} if the message is not a response
+     */
+    private void sendMessage(TcpChannel channel, OutboundMessage networkMessage, @Nullable String responseAction,
+                             ActionListener<Void> listener) throws IOException {
         MessageSerializer serializer = new MessageSerializer(networkMessage, bigArrays);
-        SendContext sendContext = new SendContext(channel, serializer, listener, serializer);
+        SendContext sendContext = new SendContext(channel, serializer, responseAction, listener, serializer);
         internalSend(channel, sendContext);
     }
 
     private void internalSend(TcpChannel channel, SendContext sendContext) throws IOException {
         channel.getChannelStats().markAccessed(threadPool.relativeTimeInMillis());
         BytesReference reference = sendContext.get();
+        sendContext.markPending(reference.length());
         // stash thread context so that channel event loop is not polluted by thread context
         try (ThreadContext.StoredContext existing = threadPool.getThreadContext().stashContext()) {
             channel.sendMessage(reference, sendContext);
@@ -186,19 +192,18 @@ final class OutboundHandler {
 
         private final TcpChannel channel;
         private final CheckedSupplier<BytesReference, IOException> messageSupplier;
+        @Nullable
+        private final String responseAction;
         private final ActionListener<Void> listener;
         private final Releasable optionalReleasable;
         private long messageSize = -1;
+        private long pendingBytes = 0;
 
         private SendContext(TcpChannel channel, CheckedSupplier<BytesReference, IOException> messageSupplier,
-                            ActionListener<Void> listener) {
-            this(channel, messageSupplier, listener, null);
-        }
-
-        private SendContext(TcpChannel channel, CheckedSupplier<BytesReference, IOException> messageSupplier,
-                            ActionListener<Void> listener, Releasable optionalReleasable) {
+                            @Nullable String responseAction, ActionListener<Void> listener, Releasable optionalReleasable) {
             this.channel = channel;
             this.messageSupplier = messageSupplier;
+            this.responseAction = responseAction;
             this.listener = listener;
             this.optionalReleasable = optionalReleasable;
         }
@@ -216,10 +221,18 @@ final class OutboundHandler {
             }
         }
 
+        void markPending(long bytes) {
+            pendingBytes = bytes;
+            channel.getChannelStats().addPendingBytes(bytes);
+        }
+
         @Override
         protected void innerOnResponse(Void v) {
             assert messageSize != -1 : "If onResponse is being called, the message should have been serialized";
             statsTracker.markBytesWritten(messageSize);
+            if (responseAction != null) {
+                statsTracker.markResponseSent(responseAction, messageSize);
+            }
             closeAndCallback(() -> listener.onResponse(v));
         }
 
@@ -234,6 +247,7 @@ final class OutboundHandler {
         }
 
         private void closeAndCallback(Runnable runnable) {
+            channel.getChannelStats().addPendingBytes(-pendingBytes);
             Releasables.close(optionalReleasable, runnable::run);
         }
     }
@@ -32,15 +32,40 @@
 
 package org.opensearch.transport;
 
+import org.opensearch.common.Nullable;
+import org.opensearch.common.metrics.ExponentialBucketHistogram;
 import org.opensearch.common.metrics.MeanMetric;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 
 public class StatsTracker {
 
     private final LongAdder bytesRead = new LongAdder();
     private final LongAdder messagesReceived = new LongAdder();
     private final MeanMetric writeBytesMetric = new MeanMetric();
+    private final ConcurrentMap<String, ActionStatsTracker> actionStats = ConcurrentCollections.newConcurrentMap();
+    private final Predicate<String> isRegisteredAction;
+
+    /**
+     * Creates a tracker that doesn't keep any per-action statistics.
+     */
+    public StatsTracker() {
+        this(action -> false);
+    }
+
+    /**
+     * @param isRegisteredAction tells whether an action has a registered request handler. Per-action statistics are only kept for those,
+     *                           since action names arrive from the wire and any other name would add an entry that is never removed.
+     */
+    public StatsTracker(Predicate<String> isRegisteredAction) {
+        this.isRegisteredAction = isRegisteredAction;
+    }
 
     public void markBytesRead(long bytesReceived) {
         bytesRead.add(bytesReceived);
@@ -54,6 +79,46 @@ public class StatsTracker {
         writeBytesMetric.inc(bytesWritten);
     }
 
+    /**
+     * Records a request for the given action that was received and dispatched by this node.
+     *
+     * @param requestSize        the size of the request on the wire
+     * @param handlingTimeNanos  the time it took to deserialize the request and hand it off to its executor
+     */
+    public void markRequestReceived(String action, long requestSize, long handlingTimeNanos) {
+        final ActionStatsTracker tracker = actionStatsTracker(action);
+        if (tracker == null) {
+            return;
+        }
+        tracker.requestBytes.add(requestSize);
+        tracker.requestSizes.inc(requestSize);
+        tracker.handlingTimes.inc(TimeUnit.NANOSECONDS.toMicros(handlingTimeNanos));
+    }
+
+    /**
+     * Records a response (or error response) to a request for the given action that was sent by this node.
+     */
+    public void markResponseSent(String action, long responseSize) {
+        final ActionStatsTracker tracker = actionStatsTracker(action);
+        if (tracker == null) {
+            return;
+        }
+        tracker.responseBytes.add(responseSize);
+        tracker.responseSizes.inc(responseSize);
+    }
+
+    @Nullable
+    private ActionStatsTracker actionStatsTracker(String action) {
+        final ActionStatsTracker tracker = actionStats.get(action);
+        if (tracker != null) {
+            return tracker;
+        }
+        if (isRegisteredAction.test(action) == false) {
+            return null;
+        }
+        return actionStats.computeIfAbsent(action, k -> new ActionStatsTracker());
+    }
+
     public long getBytesRead() {
         return bytesRead.sum();
     }
@@ -74,4 +139,28 @@ public class StatsTracker {
     public long getMessagesSent() {
         return writeBytesMetric.count();
     }
+
+    /**
+     * Returns a snapshot of the per-action statistics, sorted by action name.
+     */
+    public Map<String, TransportActionStats> getActionStats() {
+        final Map<String, TransportActionStats> stats = new TreeMap<>();
+        for (Map.Entry<String, ActionStatsTracker> entry : actionStats.entrySet()) {
+            stats.put(entry.getKey(), entry.getValue().stats());
+        }
+        return stats;
+    }
+
+    private static final class ActionStatsTracker {
+        private final LongAdder requestBytes = new LongAdder();
+        private final ExponentialBucketHistogram requestSizes = new ExponentialBucketHistogram();
+        private final LongAdder responseBytes = new LongAdder();
+        private final ExponentialBucketHistogram responseSizes = new ExponentialBucketHistogram();
+        private final ExponentialBucketHistogram handlingTimes = new ExponentialBucketHistogram();
+
+        TransportActionStats stats() {
+            return new TransportActionStats(requestBytes.sum(), requestSizes.snapshot(), responseBytes.sum(), responseSizes.snapshot(),
+                handlingTimes.snapshot());
+        }
+    }
 }
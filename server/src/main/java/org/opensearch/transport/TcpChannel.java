@@ -38,6 +38,7 @@ import org.opensearch.common.network.CloseableChannel;
 import org.opensearch.common.unit.TimeValue;
 
 import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
@@ -98,11 +99,23 @@ public interface TcpChannel extends CloseableChannel {
     class ChannelStats {
 
         private volatile long lastAccessedTime;
+        private final AtomicLong pendingBytes = new AtomicLong();
 
         public ChannelStats() {
             lastAccessedTime = TimeValue.nsecToMSec(System.nanoTime());
         }
 
+        void addPendingBytes(long bytes) {
+            pendingBytes.addAndGet(bytes);
+        }
+
+        /**
+         * Returns the number of bytes that were handed to the channel for sending but haven't been written yet.
+         */
+        long pendingBytes() {
+            return pendingBytes.get();
+        }
+
         void markAccessed(long relativeMillisTime) {
             lastAccessedTime = relativeMillisTime;
         }
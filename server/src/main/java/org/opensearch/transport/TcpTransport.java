@@ -118,7 +118,7 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
     private static final int BYTES_NEEDED_FOR_MESSAGE_SIZE = TcpHeader.MARKER_BYTES_SIZE + TcpHeader.MESSAGE_LENGTH_SIZE;
     private static final long THIRTY_PER_HEAP_SIZE = (long) (JvmInfo.jvmInfo().getMem().getHeapMax().getBytes() * 0.3);
 
-    final StatsTracker statsTracker = new StatsTracker();
+    final StatsTracker statsTracker;
 
     // this limit is per-address
     private static final int LIMIT_LOCAL_PORTS_COUNT = 6;
@@ -175,6 +175,7 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
         }
         BigArrays bigArrays = new BigArrays(pageCacheRecycler, circuitBreakerService, CircuitBreaker.IN_FLIGHT_REQUESTS);
 
+        this.statsTracker = new StatsTracker(action -> requestHandlers.getHandler(action) != null);
         this.outboundHandler = new OutboundHandler(nodeName, version, features, statsTracker, threadPool, bigArrays);
         this.handshaker = new TransportHandshaker(version, threadPool,
             (node, channel, requestId, v) -> outboundHandler.sendRequest(node, channel, requestId,
@@ -252,7 +253,7 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
             if (connectionTypeHandle == null) {
                 throw new IllegalArgumentException("no type channel for [" + type + "]");
             }
-            return connectionTypeHandle.getChannel(channels);
+            return connectionTypeHandle.getChannel(channels, channel -> channel.getChannelStats().pendingBytes());
         }
 
         @Override
@@ -867,7 +868,7 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
         final long messagesReceived = statsTracker.getMessagesReceived();
         final long bytesRead = statsTracker.getBytesRead();
         return new TransportStats(acceptedChannels.size(), outboundConnectionCount.get(),
-                messagesReceived, bytesRead, messagesSent, bytesWritten);
+                messagesReceived, bytesRead, messagesSent, bytesWritten, statsTracker.getActionStats());
     }
 
     /**
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.metrics.ExponentialBucketHistogram;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Transport statistics of a single action as seen by the node that handles it: the sizes of the requests it received, the sizes of
+ * the responses it sent back and the time the network thread spent deserializing and dispatching each request.
+ */
+public class TransportActionStats implements Writeable, ToXContentFragment {
+
+    private final long requestBytes;
+    private final long[] requestSizeHistogram;
+    private final long responseBytes;
+    private final long[] responseSizeHistogram;
+    private final long[] handlingTimeHistogram;
+
+    public TransportActionStats(long requestBytes, long[] requestSizeHistogram, long responseBytes, long[] responseSizeHistogram,
+                                long[] handlingTimeHistogram) {
+        this.requestBytes = requestBytes;
+        this.requestSizeHistogram = requestSizeHistogram;
+        this.responseBytes = responseBytes;
+        this.responseSizeHistogram = responseSizeHistogram;
+        this.handlingTimeHistogram = handlingTimeHistogram;
+    }
+
+    public TransportActionStats(StreamInput in) throws IOException {
+        requestBytes = in.readVLong();
+        requestSizeHistogram = in.readVLongArray();
+        responseBytes = in.readVLong();
+        responseSizeHistogram = in.readVLongArray();
+        handlingTimeHistogram = in.readVLongArray();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(requestBytes);
+        out.writeVLongArray(requestSizeHistogram);
+        out.writeVLong(responseBytes);
+        out.writeVLongArray(responseSizeHistogram);
+        out.writeVLongArray(handlingTimeHistogram);
+    }
+
+    public long getRequestCount() {
+        return Arrays.stream(requestSizeHistogram).sum();
+    }
+
+    public ByteSizeValue getRequestSize() {
+        return new ByteSizeValue(requestBytes);
+    }
+
+    /**
+     * The number of requests per size bucket, see {@link ExponentialBucketHistogram} for the bucket boundaries.
+     */
+    public long[] getRequestSizeHistogram() {
+        return requestSizeHistogram;
+    }
+
+    public long getResponseCount() {
+        return Arrays.stream(responseSizeHistogram).sum();
+    }
+
+    public ByteSizeValue getResponseSize() {
+        return new ByteSizeValue(responseBytes);
+    }
+
+    /**
+     * The number of responses per size bucket, see {@link ExponentialBucketHistogram} for the bucket boundaries.
+     */
+    public long[] getResponseSizeHistogram() {
+        return responseSizeHistogram;
+    }
+
+    /**
+     * The number of requests per handling time bucket in microseconds, see {@link ExponentialBucketHistogram} for the bucket
+     * boundaries.
+     */
+    public long[] getHandlingTimeHistogram() {
+        return handlingTimeHistogram;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.REQUESTS);
+        builder.field(Fields.COUNT, getRequestCount());
+        builder.humanReadableField(Fields.TOTAL_SIZE_IN_BYTES, Fields.TOTAL_SIZE, getRequestSize());
+        histogramToXContent(builder, Fields.SIZE_HISTOGRAM, requestSizeHistogram, Fields.GE_BYTES, Fields.LT_BYTES);
+        builder.endObject();
+        builder.startObject(Fields.RESPONSES);
+        builder.field(Fields.COUNT, getResponseCount());
+        builder.humanReadableField(Fields.TOTAL_SIZE_IN_BYTES, Fields.TOTAL_SIZE, getResponseSize());
+        histogramToXContent(builder, Fields.SIZE_HISTOGRAM, responseSizeHistogram, Fields.GE_BYTES, Fields.LT_BYTES);
+        builder.endObject();
+        histogramToXContent(builder, Fields.HANDLING_TIME_HISTOGRAM, handlingTimeHistogram, Fields.GE_MICROS, Fields.LT_MICROS);
+        return builder;
+    }
+
+    private static void histogramToXContent(XContentBuilder builder, String name, long[] histogram, String lowerBoundField,
+                                            String upperBoundField) throws IOException {
+        builder.startArray(name);
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            if (histogram[bucket] > 0) {
+                builder.startObject();
+                builder.field(lowerBoundField, ExponentialBucketHistogram.lowerBound(bucket));
+                if (bucket < histogram.length - 1) {
+                    builder.field(upperBoundField, ExponentialBucketHistogram.upperBound(bucket));
+                }
+                builder.field(Fields.COUNT, histogram[bucket]);
+                builder.endObject();
+            }
+        }
+        builder.endArray();
+    }
+
+    static final class Fields {
+        static final String REQUESTS = "requests";
+        static final String RESPONSES = "responses";
+        static final String COUNT = "count";
+        static final String TOTAL_SIZE = "total_size";
+        static final String TOTAL_SIZE_IN_BYTES = "total_size_in_bytes";
+        static final String SIZE_HISTOGRAM = "size_histogram";
+        static final String HANDLING_TIME_HISTOGRAM = "handling_time_histogram";
+        static final String GE_BYTES = "ge_bytes";
+        static final String LT_BYTES = "lt_bytes";
+        static final String GE_MICROS = "ge_micros";
+        static final String LT_MICROS = "lt_micros";
+    }
+}
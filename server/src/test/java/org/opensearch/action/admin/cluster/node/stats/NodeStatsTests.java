@@ -35,6 +35,7 @@ package org.opensearch.action.admin.cluster.node.stats;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.metrics.ExponentialBucketHistogram;
 import org.opensearch.discovery.DiscoveryStats;
 import org.opensearch.discovery.zen.PendingClusterStateStats;
 import org.opensearch.discovery.zen.PublishClusterStateStats;
@@ -53,6 +54,7 @@ import org.opensearch.script.ScriptStats;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.VersionUtils;
 import org.opensearch.threadpool.ThreadPoolStats;
+import org.opensearch.transport.TransportActionStats;
 import org.opensearch.transport.TransportStats;
 import org.opensearch.action.admin.cluster.node.stats.NodeStats;
 
@@ -63,6 +65,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
@@ -233,6 +236,18 @@ public class NodeStatsTests extends OpenSearchTestCase {
                     assertEquals(nodeStats.getTransport().getServerOpen(), deserializedNodeStats.getTransport().getServerOpen());
                     assertEquals(nodeStats.getTransport().getTxCount(), deserializedNodeStats.getTransport().getTxCount());
                     assertEquals(nodeStats.getTransport().getTxSize(), deserializedNodeStats.getTransport().getTxSize());
+                    assertEquals(nodeStats.getTransport().getActionStats().keySet(),
+                        deserializedNodeStats.getTransport().getActionStats().keySet());
+                    for (Map.Entry<String, TransportActionStats> entry : nodeStats.getTransport().getActionStats().entrySet()) {
+                        TransportActionStats actionStats = entry.getValue();
+                        TransportActionStats deserializedActionStats =
+                            deserializedNodeStats.getTransport().getActionStats().get(entry.getKey());
+                        assertEquals(actionStats.getRequestSize(), deserializedActionStats.getRequestSize());
+                        assertArrayEquals(actionStats.getRequestSizeHistogram(), deserializedActionStats.getRequestSizeHistogram());
+                        assertEquals(actionStats.getResponseSize(), deserializedActionStats.getResponseSize());
+                        assertArrayEquals(actionStats.getResponseSizeHistogram(), deserializedActionStats.getResponseSizeHistogram());
+                        assertArrayEquals(actionStats.getHandlingTimeHistogram(), deserializedActionStats.getHandlingTimeHistogram());
+                    }
                 }
                 if (nodeStats.getHttp() == null) {
                     assertNull(deserializedNodeStats.getHttp());
@@ -455,8 +470,17 @@ public class NodeStatsTests extends OpenSearchTestCase {
             }
             fsInfo = new FsInfo(randomNonNegativeLong(), ioStats, paths);
         }
-        TransportStats transportStats = frequently() ? new TransportStats(randomNonNegativeLong(), randomNonNegativeLong(),
-                randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong()) : null;
+        TransportStats transportStats = null;
+        if (frequently()) {
+            Map<String, TransportActionStats> actionStats = new TreeMap<>();
+            int numActions = randomIntBetween(0, 5);
+            for (int i = 0; i < numActions; i++) {
+                actionStats.put(randomAlphaOfLengthBetween(3, 10), new TransportActionStats(randomNonNegativeLong(),
+                    randomHistogram(), randomNonNegativeLong(), randomHistogram(), randomHistogram()));
+            }
+            transportStats = new TransportStats(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+                randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), actionStats);
+        }
         HttpStats httpStats = frequently() ? new HttpStats(randomNonNegativeLong(), randomNonNegativeLong()) : null;
         AllCircuitBreakerStats allCircuitBreakerStats = null;
         if (frequently()) {
@@ -535,6 +559,14 @@ public class NodeStatsTests extends OpenSearchTestCase {
                 ingestStats, adaptiveSelectionStats, scriptCacheStats, null);
     }
 
+    private static long[] randomHistogram() {
+        long[] histogram = new long[ExponentialBucketHistogram.BUCKET_COUNT];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = randomBoolean() ? 0 : randomIntBetween(1, 1000);
+        }
+        return histogram;
+    }
+
     private IngestStats.Stats getPipelineStats(List<IngestStats.PipelineStat> pipelineStats, String id) {
         return pipelineStats.stream().filter(p1 -> p1.getPipelineId().equals(id)).findFirst().map(p2 -> p2.getStats()).orElse(null);
     }
@@ -40,6 +40,8 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.GroupShardsIterator;
 import org.opensearch.common.Strings;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.index.query.MatchNoneQueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchService;
@@ -65,6 +67,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 
@@ -133,6 +136,64 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
         }
     }
 
+    public void testFilterShardsOnCoordinator() throws InterruptedException {
+        final TransportSearchAction.SearchTimeProvider timeProvider = new TransportSearchAction.SearchTimeProvider(0, System.nanoTime(),
+            System::nanoTime);
+
+        Map<String, Transport.Connection> lookup = new ConcurrentHashMap<>();
+        DiscoveryNode primaryNode = new DiscoveryNode("node_1", buildNewFakeTransportAddress(), Version.CURRENT);
+        DiscoveryNode replicaNode = new DiscoveryNode("node_2", buildNewFakeTransportAddress(), Version.CURRENT);
+        lookup.put("node1", new SearchAsyncActionTests.MockConnection(primaryNode));
+        lookup.put("node2", new SearchAsyncActionTests.MockConnection(replicaNode));
+
+        AtomicInteger canMatchRequests = new AtomicInteger();
+        SearchTransportService searchTransportService = new SearchTransportService(null, null) {
+            @Override
+            public void sendCanMatch(Transport.Connection connection, ShardSearchRequest request, SearchTask task,
+                                     ActionListener<SearchService.CanMatchResponse> listener) {
+                canMatchRequests.incrementAndGet();
+                new Thread(() -> listener.onResponse(new SearchService.CanMatchResponse(true, null))).start();
+            }
+        };
+
+        AtomicReference<GroupShardsIterator<SearchShardIterator>> result = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        GroupShardsIterator<SearchShardIterator> shardsIter = SearchAsyncActionTests.getShardsIter("idx",
+            new OriginalIndices(new String[]{"idx"}, SearchRequest.DEFAULT_INDICES_OPTIONS),
+            2, randomBoolean(), primaryNode, replicaNode);
+        final SearchRequest searchRequest = new SearchRequest();
+        searchRequest.allowPartialSearchResults(true);
+        final AliasFilter aliasFilter;
+        if (randomBoolean()) {
+            searchRequest.source(new SearchSourceBuilder().query(new MatchNoneQueryBuilder()));
+            aliasFilter = new AliasFilter(null, Strings.EMPTY_ARRAY);
+        } else {
+            searchRequest.source(new SearchSourceBuilder().query(new TermQueryBuilder("field", "value")));
+            aliasFilter = new AliasFilter(new MatchNoneQueryBuilder(), "alias");
+        }
+
+        CanMatchPreFilterSearchPhase canMatchPhase = new CanMatchPreFilterSearchPhase(logger,
+            searchTransportService,
+            (clusterAlias, node) -> lookup.get(node),
+            Collections.singletonMap("_na_", aliasFilter),
+            Collections.emptyMap(), Collections.emptyMap(), OpenSearchExecutors.newDirectExecutorService(),
+            searchRequest, null, shardsIter, timeProvider, ClusterState.EMPTY_STATE, null,
+            (iter) -> new SearchPhase("test") {
+                    @Override
+                    public void run() throws IOException {
+                        result.set(iter);
+                        latch.countDown();
+                    }}, SearchResponse.Clusters.EMPTY);
+
+        canMatchPhase.start();
+        latch.await();
+
+        assertEquals(0, canMatchRequests.get());
+        // we always need at least one shard to produce a valid search response
+        assertFalse(result.get().get(0).skip());
+        assertTrue(result.get().get(1).skip());
+    }
+
     public void testFilterWithFailure() throws InterruptedException {
         final TransportSearchAction.SearchTimeProvider timeProvider = new TransportSearchAction.SearchTimeProvider(0, System.nanoTime(),
             System::nanoTime);
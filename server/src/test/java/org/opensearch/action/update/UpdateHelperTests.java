@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.update;
+
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.sameInstance;
+
+public class UpdateHelperTests extends OpenSearchTestCase {
+
+    public void testExtractGetResultKeepsUnfilteredSourceBytes() throws IOException {
+        XContentType xContentType = randomFrom(XContentType.values());
+        IndexRequest upsert = new IndexRequest("test", "type1", "1")
+            .source(XContentFactory.contentBuilder(xContentType).startObject().field("foo", "bar").field("baz", 1).endObject());
+        UpdateRequest updateRequest = new UpdateRequest("test", "type1", "1")
+            .upsert(upsert)
+            .fetchSource(true);
+        assertEquals(xContentType, upsert.getContentType());
+
+        GetResult getResult = UpdateHelper.extractGetResult(updateRequest, "test", 0, 1, 1, upsert.source(), upsert.getContentType());
+        assertThat(getResult.internalSourceRef(), sameInstance(upsert.source()));
+
+        // bytes that cannot be parsed are passed through as well, which shows that the source is never parsed when not filtered
+        BytesReference unparseable = new BytesArray("not a document");
+        getResult = UpdateHelper.extractGetResult(updateRequest, "test", 0, 1, 1, unparseable, xContentType);
+        assertThat(getResult.internalSourceRef(), sameInstance(unparseable));
+    }
+
+    public void testExtractGetResultFiltersSource() throws IOException {
+        XContentType xContentType = randomFrom(XContentType.values());
+        IndexRequest upsert = new IndexRequest("test", "type1", "1")
+            .source(XContentFactory.contentBuilder(xContentType).startObject().field("foo", "bar").field("baz", 1).endObject());
+        UpdateRequest updateRequest = new UpdateRequest("test", "type1", "1")
+            .upsert(upsert)
+            .fetchSource(new FetchSourceContext(true, new String[] {"foo"}, null));
+
+        GetResult getResult = UpdateHelper.extractGetResult(updateRequest, "test", 0, 1, 1, upsert.source(), upsert.getContentType());
+        Map<String, Object> filtered = XContentHelper.convertToMap(getResult.internalSourceRef(), false, xContentType).v2();
+        assertEquals(Collections.singletonMap("foo", "bar"), filtered);
+    }
+
+    public void testExtractGetResultWithoutFetchSource() {
+        UpdateRequest updateRequest = new UpdateRequest("test", "type1", "1");
+        assertNull(UpdateHelper.extractGetResult(updateRequest, "test", 0, 1, 1, new BytesArray("not a document"), XContentType.JSON));
+    }
+}
@@ -392,6 +392,26 @@ public class UpdateRequestTests extends OpenSearchTestCase {
         }
     }
 
+    public void testScriptedUpsertKeepsContentType() throws IOException {
+        XContentType xContentType = randomFrom(XContentType.values());
+        IndexRequest indexRequest = new IndexRequest("test", "type1", "2")
+            .source(XContentFactory.contentBuilder(xContentType).startObject().field("foo", "bar").endObject());
+        UpdateRequest updateRequest = new UpdateRequest("test", "type1", "2")
+            .upsert(indexRequest)
+            .script(mockInlineScript("ctx._source.update_timestamp = ctx._now"))
+            .scriptedUpsert(true);
+        long nowInMillis = randomNonNegativeLong();
+        // We simulate that the document is not existing yet
+        GetResult getResult = new GetResult("test", "type1", "2", UNASSIGNED_SEQ_NO, 0, 0, false, null, null, null);
+        UpdateHelper.Result result = updateHelper.prepare(new ShardId("test", "_na_", 0), updateRequest, getResult, () -> nowInMillis);
+        Writeable action = result.action();
+        assertThat(action, instanceOf(IndexRequest.class));
+        IndexRequest indexAction = (IndexRequest) action;
+        assertEquals(xContentType, indexAction.getContentType());
+        assertEquals("bar", indexAction.sourceAsMap().get("foo"));
+        assertEquals(nowInMillis, ((Number) indexAction.sourceAsMap().get("update_timestamp")).longValue());
+    }
+
     public void testIndexTimeout() {
         final GetResult getResult =
                 new GetResult("test", "type", "1", 0, 1, 0, true, new BytesArray("{\"f\":\"v\"}"), null, null);
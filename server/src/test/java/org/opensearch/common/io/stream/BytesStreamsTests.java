@@ -49,6 +49,7 @@ import org.joda.time.DateTimeZone;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -755,6 +756,34 @@ public class BytesStreamsTests extends OpenSearchTestCase {
         }
     }
 
+    public void testReadMixedAsciiAndUnicodeStrings() throws IOException {
+        List<String> strings = new ArrayList<>();
+        // enough strings to span several pages so that some of them straddle a page boundary
+        int numStrings = randomIntBetween(500, 2000);
+        BytesStreamOutput output = new BytesStreamOutput(0);
+        for (int i = 0; i < numStrings; i++) {
+            String s = randomBoolean() ? randomAlphaOfLengthBetween(0, 64) : randomRealisticUnicodeOfLengthBetween(0, 64);
+            strings.add(s);
+            output.writeString(s);
+        }
+        output.writeInt(42);
+
+        BytesReference bytes = output.bytes();
+        try (StreamInput streamInput = new NamedWriteableAwareStreamInput(bytes.streamInput(), new NamedWriteableRegistry(
+            Collections.emptyList()))) {
+            for (int i = 0; i < numStrings; i++) {
+                assertEquals(strings.get(i), streamInput.readString());
+            }
+            assertEquals(42, streamInput.readInt());
+        }
+        try (StreamInput streamInput = new ByteBufferStreamInput(ByteBuffer.wrap(BytesReference.toBytes(bytes)))) {
+            for (int i = 0; i < numStrings; i++) {
+                assertEquals(strings.get(i), streamInput.readString());
+            }
+            assertEquals(42, streamInput.readInt());
+        }
+    }
+
     /*
      * tests the extreme case where characters use more than 2 bytes
      */
@@ -191,6 +191,24 @@ public class ThreadContextTests extends OpenSearchTestCase {
         assertEquals("1", threadContext.getHeader("default"));
     }
 
+    public void testStashAndMergeEmptyHeaders() {
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        threadContext.putHeader("foo", "bar");
+        threadContext.putTransient("ctx.foo", 1);
+        try (ThreadContext.StoredContext ctx = threadContext.stashAndMergeHeaders(Collections.emptyMap())) {
+            assertEquals("bar", threadContext.getHeader("foo"));
+            assertNull(threadContext.getTransient("ctx.foo"));
+            threadContext.putHeader("simon", "says");
+            threadContext.putTransient("ctx.bar", 2);
+        }
+
+        assertNull(threadContext.getHeader("simon"));
+        assertNull(threadContext.getTransient("ctx.bar"));
+        assertEquals("bar", threadContext.getHeader("foo"));
+        assertEquals(Integer.valueOf(1), threadContext.getTransient("ctx.foo"));
+        assertEquals(1, threadContext.getHeaders().size());
+    }
+
     public void testStoreContext() {
         Settings build = Settings.builder().put("request.headers.default", "1").build();
         ThreadContext threadContext = new ThreadContext(build);
@@ -85,6 +85,13 @@ public class XContentMapValuesTests extends AbstractFilteringTestCase {
         assertEquals("Filtered map must be equal to the expected map",
                 toMap(expected, xContentType, humanReadable),
                 XContentMapValues.filter(toMap(actual, xContentType, humanReadable), sourceIncludes, sourceExcludes));
+
+        ToXContentObject toXContent = (builder, params) -> actual.apply(builder);
+        try (XContentParser parser = createParser(xContentType.xContent(), toXContent(toXContent, xContentType, humanReadable))) {
+            assertEquals("Map filtered while parsing must be equal to the expected map",
+                toMap(expected, xContentType, humanReadable),
+                XContentMapValues.filterWhileParsing(sourceIncludes, sourceExcludes).apply(parser));
+        }
     }
 
     @SuppressWarnings({"unchecked"})
@@ -34,36 +34,45 @@ package org.opensearch.index.query;
 
 import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.MultiReader;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.DocValuesFieldExistsQuery;
 import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.NormsFieldExistsQuery;
 import org.apache.lucene.search.PointRangeQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TermRangeQuery;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.ParsingException;
 import org.opensearch.common.geo.ShapeRelation;
 import org.opensearch.common.lucene.BytesRefs;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.index.mapper.FieldNamesFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MappedFieldType.Relation;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.indices.IndicesRequestCache;
 import org.opensearch.test.AbstractQueryTestCase;
 import org.joda.time.DateTime;
 import org.joda.time.chrono.ISOChronology;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.opensearch.index.query.QueryBuilders.rangeQuery;
 import static org.hamcrest.Matchers.equalTo;
@@ -519,6 +528,112 @@ public class RangeQueryBuilderTests extends AbstractQueryTestCase<RangeQueryBuil
         assertThat(rewritten, sameInstance(query));
     }
 
+    public void testRewriteNowRelativeToSameWithoutReader() throws IOException {
+        RangeQueryBuilder query = new RangeQueryBuilder(DATE_FIELD_NAME).from("now-1h/h").to("now/h");
+        QueryShardContext queryShardContext = createShardContext();
+        QueryBuilder rewritten = query.rewrite(queryShardContext);
+        assertThat(rewritten, sameInstance(query));
+    }
+
+    public void testRewriteRoundedNowToResolvedBounds() throws IOException {
+        final ZoneId zone = randomFrom(ZoneOffset.UTC, ZoneOffset.ofHoursMinutes(5, 30));
+        final long now = createShardContext().nowInMillis();
+        final long startOfDay = Instant.ofEpochMilli(now).atZone(zone).with(LocalTime.MIN).toInstant().toEpochMilli();
+        final long startOfNextDay = startOfDay + TimeUnit.DAYS.toMillis(1);
+        final long startOfPreviousDay = startOfDay - TimeUnit.DAYS.toMillis(1);
+
+        setRoundedNowEnabled(true);
+        try {
+            assertResolvedBounds(newIntersectingRangeQuery().from("now/d", true).timeZone(zone.getId()), startOfDay, null);
+            assertResolvedBounds(newIntersectingRangeQuery().from("now/d", false).timeZone(zone.getId()), startOfNextDay, null);
+            assertResolvedBounds(newIntersectingRangeQuery().to("now/d", true).timeZone(zone.getId()), null, startOfNextDay - 1);
+            assertResolvedBounds(newIntersectingRangeQuery().to("now/d", false).timeZone(zone.getId()), null, startOfDay - 1);
+
+            final boolean includeLower = randomBoolean();
+            final boolean includeUpper = randomBoolean();
+            RangeQueryBuilder query = newIntersectingRangeQuery().from("now-1d/d", includeLower).to("now/d", includeUpper)
+                .timeZone(zone.getId());
+            assertResolvedBounds(query, includeLower ? startOfPreviousDay : startOfDay, includeUpper ? startOfNextDay - 1 : startOfDay - 1);
+        } finally {
+            setRoundedNowEnabled(false);
+        }
+    }
+
+    public void testRewriteRoundedNowToSameIfDisabledOrUnrounded() throws IOException {
+        QueryShardContext context = createShardContext(new IndexSearcher(new MultiReader()));
+        RangeQueryBuilder query = newIntersectingRangeQuery().from("now-1h/h").to("now/h");
+        assertThat(query.rewrite(context), sameInstance(query));
+
+        setRoundedNowEnabled(true);
+        try {
+            query = newIntersectingRangeQuery().from("now-1h/h").to("now");
+            assertThat(query.rewrite(context), sameInstance(query));
+        } finally {
+            setRoundedNowEnabled(false);
+        }
+    }
+
+    public void testRoundedNowCacheability() throws IOException {
+        setRoundedNowEnabled(true);
+        try {
+            RangeQueryBuilder query = newIntersectingRangeQuery().from("now-1d/d").to("now/d");
+            QueryShardContext context = createShardContext(new IndexSearcher(new MultiReader()));
+            QueryBuilder rewritten = rewriteQuery(query, new QueryShardContext(context));
+            assertThat(rewritten, instanceOf(RangeQueryBuilder.class));
+            assertNotNull(rewritten.toQuery(context));
+            assertTrue("query should be cacheable: " + rewritten.toString(), context.isCacheable());
+
+            // the original query still depends on now
+            context = createShardContext(new IndexSearcher(new MultiReader()));
+            assertNotNull(query.toQuery(context));
+            assertFalse("query should not be cacheable: " + query.toString(), context.isCacheable());
+        } finally {
+            setRoundedNowEnabled(false);
+        }
+    }
+
+    private static RangeQueryBuilder newIntersectingRangeQuery() {
+        return new RangeQueryBuilder(DATE_FIELD_NAME) {
+            @Override
+            protected MappedFieldType.Relation getRelation(QueryRewriteContext queryRewriteContext) {
+                return Relation.INTERSECTS;
+            }
+        };
+    }
+
+    private static void assertResolvedBounds(RangeQueryBuilder query, Long expectedFrom, Long expectedTo) throws IOException {
+        QueryShardContext context = createShardContext(new IndexSearcher(new MultiReader()));
+        QueryBuilder rewritten = query.rewrite(context);
+        assertThat(rewritten, instanceOf(RangeQueryBuilder.class));
+        RangeQueryBuilder resolved = (RangeQueryBuilder) rewritten;
+        assertEquals(query.fieldName(), resolved.fieldName());
+        assertEquals(expectedFrom, resolved.from());
+        assertEquals(expectedTo, resolved.to());
+        assertTrue(resolved.includeLower());
+        assertTrue(resolved.includeUpper());
+        assertEquals("epoch_millis", resolved.format());
+        assertNull(resolved.timeZone());
+    }
+
+    private static void setRoundedNowEnabled(boolean enabled) {
+        IndexMetadata current = indexSettings().getIndexMetadata();
+        indexSettings().updateIndexMetadata(IndexMetadata.builder(current)
+            .settings(Settings.builder().put(current.getSettings())
+                .put(IndicesRequestCache.INDEX_CACHE_REQUEST_ROUNDED_NOW_SETTING.getKey(), enabled))
+            .build());
+    }
+
+    public void testIsUnroundedNowRelative() {
+        assertTrue(RangeQueryBuilder.isUnroundedNowRelative("now"));
+        assertTrue(RangeQueryBuilder.isUnroundedNowRelative("now-15m"));
+        assertTrue(RangeQueryBuilder.isUnroundedNowRelative(new BytesRef("now-15m")));
+        assertFalse(RangeQueryBuilder.isUnroundedNowRelative("now-15m/m"));
+        assertFalse(RangeQueryBuilder.isUnroundedNowRelative(new BytesRef("now/d")));
+        assertFalse(RangeQueryBuilder.isUnroundedNowRelative("2015-01-01||+1d"));
+        assertFalse(RangeQueryBuilder.isUnroundedNowRelative(1420070400000L));
+        assertFalse(RangeQueryBuilder.isUnroundedNowRelative(null));
+    }
+
     public void testParseFailsWithMultipleFields() {
         String json =
                 "{\n" +
@@ -339,6 +339,53 @@ public class IndicesRequestCacheTests extends OpenSearchTestCase {
 
     }
 
+    public void testCleanClosedReadersAndClearedShards() throws Exception {
+        IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
+        ShardRequestCache requestCacheStats = new ShardRequestCache();
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+
+        writer.addDocument(newDoc(0, "foo"));
+        DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+        writer.updateDocument(new Term("id", "0"), newDoc(0, "bar"));
+        DirectoryReader secondReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+        writer.updateDocument(new Term("id", "0"), newDoc(0, "baz"));
+        DirectoryReader thirdReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+        TermQueryBuilder termQuery = new TermQueryBuilder("id", "0");
+        BytesReference termBytes = XContentHelper.toXContent(termQuery, XContentType.JSON, false);
+
+        // three shards with entries for several readers each
+        TestEntity firstShard = new TestEntity(requestCacheStats, new AtomicBoolean(true));
+        TestEntity secondShard = new TestEntity(requestCacheStats, new AtomicBoolean(true));
+        TestEntity thirdShard = new TestEntity(requestCacheStats, new AtomicBoolean(true));
+        cache.getOrCompute(firstShard, new Loader(reader, 0), reader, termBytes);
+        cache.getOrCompute(firstShard, new Loader(secondReader, 0), secondReader, termBytes);
+        cache.getOrCompute(secondShard, new Loader(secondReader, 0), secondReader, termBytes);
+        cache.getOrCompute(secondShard, new Loader(thirdReader, 0), thirdReader, termBytes);
+        cache.getOrCompute(thirdShard, new Loader(reader, 0), reader, termBytes);
+        cache.getOrCompute(thirdShard, new Loader(thirdReader, 0), thirdReader, termBytes);
+        assertEquals(6, cache.count());
+
+        // a closed reader only drops the entries for that reader, a cleared shard drops all of its entries
+        reader.close();
+        cache.clear(secondShard);
+        cache.cleanCache();
+        assertEquals(2, cache.count());
+
+        Loader loader = new Loader(secondReader, 0);
+        assertEquals("bar", cache.getOrCompute(firstShard, loader, secondReader, termBytes).streamInput().readString());
+        assertTrue(loader.loadedFromCache);
+        loader = new Loader(thirdReader, 0);
+        assertEquals("baz", cache.getOrCompute(thirdShard, loader, thirdReader, termBytes).streamInput().readString());
+        assertTrue(loader.loadedFromCache);
+        loader = new Loader(secondReader, 0);
+        assertEquals("bar", cache.getOrCompute(secondShard, loader, secondReader, termBytes).streamInput().readString());
+        assertFalse(loader.loadedFromCache);
+        assertEquals(3, cache.count());
+
+        IOUtils.close(secondReader, thirdReader, writer, dir, cache);
+    }
+
     public Iterable<Field> newDoc(int id, String value) {
         return Arrays.asList(newField("id", Integer.toString(id), StringField.TYPE_STORED), newField("value", value,
             StringField.TYPE_STORED));
@@ -66,6 +66,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.opensearch.repositories.RepositoryDataTests.generateRandomRepoData;
@@ -221,6 +222,63 @@ public class BlobStoreRepositoryTests extends OpenSearchSingleNodeTestCase {
             () -> writeIndexGen(repository, repositoryData.withGenId(startingGeneration + 1), repositoryData.getGenId()));
     }
 
+    public void testRepositoryDataCacheMaxSize() throws Exception {
+        // the random repository data below compresses to far more than a single byte
+        final boolean cacheable = randomBoolean();
+        final BlobStoreRepository repository = setupRepo(Settings.builder()
+            .put(BlobStoreRepository.CACHE_REPOSITORY_DATA_MAX_SIZE.getKey(), cacheable ? "1mb" : "1b").build());
+
+        final RepositoryData repositoryData =
+            addRandomSnapshotsToRepoData(OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository), true);
+        writeIndexGen(repository, repositoryData, repositoryData.getGenId());
+        assertEquals(repositoryData, OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository));
+
+        // remove the index-N blob, so that the repository data can only be loaded if it was cached
+        repository.blobContainer().deleteBlobsIgnoringIfNotExists(
+            Collections.singletonList(BlobStoreRepository.INDEX_FILE_PREFIX + repository.latestIndexBlobId()));
+        if (cacheable) {
+            assertEquals(repositoryData, OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository));
+        } else {
+            expectThrows(RepositoryException.class, () -> OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository));
+        }
+    }
+
+    public void testRepositoryDataCacheRetriedAfterDataFitsAgain() throws Exception {
+        final BlobStoreRepository repository = setupRepo(Settings.builder()
+            .put(BlobStoreRepository.CACHE_REPOSITORY_DATA_MAX_SIZE.getKey(), "4kb").build());
+
+        // random snapshot names that don't compress to less than the cache limit
+        final RepositoryData incompressible =
+            addSnapshots(OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository), 5, () -> randomAlphaOfLength(2048));
+        writeIndexGen(repository, incompressible, incompressible.getGenId());
+        assertEquals(incompressible, OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository));
+
+        // repository data that fits into the cache again resets the size that is known to be too large to cache
+        final RepositoryData small = OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository)
+            .removeSnapshots(incompressible.getSnapshotIds(), ShardGenerations.EMPTY);
+        writeIndexGen(repository, small, small.getGenId());
+        assertEquals(small, OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository));
+
+        // larger than the repository data that didn't fit before, but compresses to less than the cache limit, so it is cached and
+        // can be loaded after its index-N blob is gone
+        final String repeatedName = String.join("", Collections.nCopies(2048, "a"));
+        final RepositoryData compressible = addSnapshots(OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository), 10,
+            () -> repeatedName + randomAlphaOfLength(8));
+        writeIndexGen(repository, compressible, compressible.getGenId());
+        assertEquals(compressible, OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository));
+        repository.blobContainer().deleteBlobsIgnoringIfNotExists(
+            Collections.singletonList(BlobStoreRepository.INDEX_FILE_PREFIX + repository.latestIndexBlobId()));
+        assertEquals(compressible, OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository));
+    }
+
+    private static RepositoryData addSnapshots(RepositoryData repoData, int numSnapshots, Supplier<String> snapshotNames) {
+        for (int i = 0; i < numSnapshots; i++) {
+            repoData = repoData.addSnapshot(new SnapshotId(snapshotNames.get(), UUIDs.randomBase64UUID()), SnapshotState.SUCCESS,
+                Version.CURRENT, ShardGenerations.EMPTY, Collections.emptyMap(), Collections.emptyMap());
+        }
+        return repoData;
+    }
+
     public void testBadChunksize() throws Exception {
         final Client client = client();
         final Path location = OpenSearchIntegTestCase.randomRepoPath(node().settings());
@@ -259,6 +317,10 @@ public class BlobStoreRepositoryTests extends OpenSearchSingleNodeTestCase {
     }
 
     private BlobStoreRepository setupRepo() {
+        return setupRepo(Settings.EMPTY);
+    }
+
+    private BlobStoreRepository setupRepo(Settings repositorySettings) {
         final Client client = client();
         final Path location = OpenSearchIntegTestCase.randomRepoPath(node().settings());
         final String repositoryName = "test-repo";
@@ -266,7 +328,8 @@ public class BlobStoreRepositoryTests extends OpenSearchSingleNodeTestCase {
         AcknowledgedResponse putRepositoryResponse =
             client.admin().cluster().preparePutRepository(repositoryName)
                                     .setType(REPO_TYPE)
-                                    .setSettings(Settings.builder().put(node().settings()).put("location", location))
+                                    .setSettings(Settings.builder().put(node().settings()).put(repositorySettings)
+                                        .put("location", location))
                                     .get();
         assertThat(putRepositoryResponse.isAcknowledged(), equalTo(true));
 
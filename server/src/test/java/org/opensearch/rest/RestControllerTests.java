@@ -61,6 +61,9 @@ import org.junit.After;
 import org.junit.Before;
 
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -319,6 +322,58 @@ public class RestControllerTests extends OpenSearchTestCase {
         assertEquals(0, inFlightRequestsBreaker.getUsed());
     }
 
+    public void testDispatchRequestLimitsBytesPerClient() {
+        circuitBreakerService = new HierarchyCircuitBreakerService(
+            Settings.builder()
+                .put(HierarchyCircuitBreakerService.IN_FLIGHT_REQUESTS_CIRCUIT_BREAKER_LIMIT_SETTING.getKey(), BREAKER_LIMIT)
+                .put(HierarchyCircuitBreakerService.IN_FLIGHT_REQUESTS_CIRCUIT_BREAKER_CLIENT_RATIO_SETTING.getKey(), 0.5d)
+                .put(HierarchyCircuitBreakerService.USE_REAL_MEMORY_USAGE_SETTING.getKey(), false)
+                .build(),
+            Collections.emptyList(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        inFlightRequestsBreaker = circuitBreakerService.getBreaker(CircuitBreaker.IN_FLIGHT_REQUESTS);
+        restController = new RestController(Collections.emptySet(), null, client, circuitBreakerService, usageService);
+        // hold on to the channels so that the request bytes stay in flight until we respond
+        final List<RestChannel> pendingChannels = new ArrayList<>();
+        restController.registerHandler(RestRequest.Method.GET, "/", (request, channel, client) -> pendingChannels.add(channel));
+
+        final InetSocketAddress busyClient = new InetSocketAddress(InetAddress.getLoopbackAddress(), 9200);
+        final InetSocketAddress otherClient = new InetSocketAddress(InetAddress.getLoopbackAddress(), 9201);
+        final String otherClientAddress = "127.0.0.2";
+        final InetSocketAddress differentHost = new InetSocketAddress(otherClientAddress, 9200);
+        final int contentLength = BREAKER_LIMIT.bytesAsInt() / 2;
+        final String content = randomAlphaOfLength((int) Math.round(contentLength / inFlightRequestsBreaker.getOverhead()));
+
+        RestRequest request = clientRestRequest(content, busyClient);
+        restController.dispatchRequest(request, new AssertingChannel(request, true, RestStatus.OK), client.threadPool().getThreadContext());
+        assertEquals(1, pendingChannels.size());
+        assertEquals(content.length(), restController.getInFlightBytes(busyClient.getHostString()));
+
+        // the same host is over its share even when it connects from another port
+        RestRequest rejected = clientRestRequest(content, otherClient);
+        AssertingChannel rejectedChannel = new AssertingChannel(rejected, true, RestStatus.TOO_MANY_REQUESTS);
+        restController.dispatchRequest(rejected, rejectedChannel, client.threadPool().getThreadContext());
+        assertTrue(rejectedChannel.getSendResponseCalled());
+        assertEquals(1, pendingChannels.size());
+        assertEquals(content.length(), restController.getInFlightBytes(busyClient.getHostString()));
+        assertEquals(0, inFlightRequestsBreaker.getTrippedCount());
+        assertEquals(1, restController.getInFlightRequestsClientRejectedCount());
+
+        // other hosts still get their own share
+        request = clientRestRequest(content, differentHost);
+        restController.dispatchRequest(request, new AssertingChannel(request, true, RestStatus.OK), client.threadPool().getThreadContext());
+        assertEquals(2, pendingChannels.size());
+        assertEquals(content.length(), restController.getInFlightBytes(otherClientAddress));
+        assertEquals(1, restController.getInFlightRequestsClientRejectedCount());
+
+        for (RestChannel channel : pendingChannels) {
+            channel.sendResponse(new BytesRestResponse(RestStatus.OK, BytesRestResponse.TEXT_CONTENT_TYPE, BytesArray.EMPTY));
+        }
+        assertEquals(0, inFlightRequestsBreaker.getUsed());
+        assertEquals(0, restController.getInFlightBytes(busyClient.getHostString()));
+        assertEquals(0, restController.getInFlightBytes(otherClientAddress));
+    }
+
     public void testDispatchRequiresContentTypeForRequestsWithContent() {
         String content = randomAlphaOfLength((int) Math.round(BREAKER_LIMIT.getBytes() / inFlightRequestsBreaker.getOverhead()));
         RestRequest request = testRestRequest("/", content, null);
@@ -674,6 +729,14 @@ public class RestControllerTests extends OpenSearchTestCase {
         }
     }
 
+    private static RestRequest clientRestRequest(String content, InetSocketAddress remoteAddress) {
+        FakeRestRequest.Builder builder = new FakeRestRequest.Builder(NamedXContentRegistry.EMPTY);
+        builder.withPath("/");
+        builder.withContent(new BytesArray(content), XContentType.JSON);
+        builder.withRemoteAddress(remoteAddress);
+        return builder.build();
+    }
+
     private static RestRequest testRestRequest(String path, String content, XContentType xContentType) {
         FakeRestRequest.Builder builder = new FakeRestRequest.Builder(NamedXContentRegistry.EMPTY);
         builder.withPath(path);
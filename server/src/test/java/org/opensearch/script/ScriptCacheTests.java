@@ -36,6 +36,8 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.test.OpenSearchTestCase;
 
+import static org.hamcrest.Matchers.containsString;
+
 public class ScriptCacheTests extends OpenSearchTestCase {
     // even though circuit breaking is allowed to be configured per minute, we actually weigh this over five minutes
     // simply by multiplying by five, so even setting it to one, requires five compilations to break
@@ -66,6 +68,58 @@ public class ScriptCacheTests extends OpenSearchTestCase {
         }
     }
 
+    public void testStoredCompilationCircuitBreaking() {
+        final TimeValue expire = ScriptService.SCRIPT_GENERAL_CACHE_EXPIRE_SETTING.get(Settings.EMPTY);
+        final Integer size = ScriptService.SCRIPT_GENERAL_CACHE_SIZE_SETTING.get(Settings.EMPTY);
+        String settingName = ScriptService.SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING.getKey();
+        int count = randomIntBetween(1, 50);
+        ScriptCache cache = new ScriptCache(size, expire, new ScriptCache.CompilationRate(count, TimeValue.timeValueMinutes(1)),
+            settingName);
+        // by default stored and dynamic scripts share the rate
+        int stored = randomIntBetween(0, count);
+        for (int i = 0; i < stored; i++) {
+            cache.checkStoredCompilationLimit(); // should pass
+        }
+        for (int i = stored; i < count; i++) {
+            cache.checkCompilationLimit(); // should pass
+        }
+        expectThrows(CircuitBreakingException.class, cache::checkCompilationLimit);
+        expectThrows(CircuitBreakingException.class, cache::checkStoredCompilationLimit);
+    }
+
+    public void testStoredCompilationRateShare() {
+        final TimeValue expire = ScriptService.SCRIPT_GENERAL_CACHE_EXPIRE_SETTING.get(Settings.EMPTY);
+        final Integer size = ScriptService.SCRIPT_GENERAL_CACHE_SIZE_SETTING.get(Settings.EMPTY);
+        String settingName = ScriptService.SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING.getKey();
+        int count = 2 * randomIntBetween(1, 25);
+        ScriptCache cache = new ScriptCache(size, expire, new ScriptCache.CompilationRate(count, TimeValue.timeValueMinutes(1)),
+            settingName, 0.5);
+        // the rate is split between the buckets
+        for (int i = 0; i < count / 2; i++) {
+            cache.checkStoredCompilationLimit(); // should pass
+        }
+        CircuitBreakingException e = expectThrows(CircuitBreakingException.class, cache::checkStoredCompilationLimit);
+        assertThat(e.getMessage(), containsString("Too many stored script compilations"));
+        for (int i = 0; i < count / 2; i++) {
+            cache.checkCompilationLimit(); // should pass
+        }
+        e = expectThrows(CircuitBreakingException.class, cache::checkCompilationLimit);
+        assertThat(e.getMessage(), containsString("Too many dynamic script compilations"));
+
+        // both buckets keep at least one compilation
+        cache = new ScriptCache(size, expire, new ScriptCache.CompilationRate(2, TimeValue.timeValueMinutes(1)), settingName,
+            randomFrom(0.01, 1.0));
+        cache.checkStoredCompilationLimit();
+        cache.checkCompilationLimit();
+        expectThrows(CircuitBreakingException.class, cache::checkStoredCompilationLimit);
+        expectThrows(CircuitBreakingException.class, cache::checkCompilationLimit);
+
+        // a single compilation can't be split
+        cache = new ScriptCache(size, expire, new ScriptCache.CompilationRate(1, TimeValue.timeValueMinutes(1)), settingName, 0.5);
+        cache.checkStoredCompilationLimit();
+        expectThrows(CircuitBreakingException.class, cache::checkCompilationLimit);
+    }
+
     public void testUnlimitedCompilationRate() {
         final Integer size = ScriptService.SCRIPT_GENERAL_CACHE_SIZE_SETTING.get(Settings.EMPTY);
         final TimeValue expire = ScriptService.SCRIPT_GENERAL_CACHE_EXPIRE_SETTING.get(Settings.EMPTY);
@@ -64,6 +64,7 @@ import static org.opensearch.script.ScriptService.SCRIPT_GENERAL_MAX_COMPILATION
 import static org.opensearch.script.ScriptService.SCRIPT_GENERAL_CACHE_SIZE_SETTING;
 import static org.opensearch.script.ScriptService.SCRIPT_MAX_COMPILATIONS_RATE_SETTING;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.sameInstance;
@@ -262,6 +263,47 @@ public class ScriptServiceTests extends OpenSearchTestCase {
         assertEquals(1L, scriptService.cacheStats().getContextStats().get(ctx.name).getCompilations());
     }
 
+    public void testIndexedScriptSubjectToCompilationRate() throws IOException {
+        Settings.Builder builder = Settings.builder()
+            .put(SCRIPT_GENERAL_CACHE_SIZE_SETTING.getKey(), 1)
+            .put(SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING.getKey(), "1/1m");
+        buildScriptService(builder.build());
+        ScriptContext<?> context = randomFrom(contexts.values());
+        scriptService.compile(new Script(ScriptType.STORED, null, "script", Collections.emptyMap()), context);
+        // by default stored and inline scripts share the rate
+        GeneralScriptException e = expectThrows(GeneralScriptException.class,
+            () -> scriptService.compile(new Script(ScriptType.INLINE, "test", "2+2", Collections.emptyMap()), context));
+        assertThat(e.getCause(), instanceOf(CircuitBreakingException.class));
+        assertEquals(1L, scriptService.stats().getCompilations());
+        assertEquals(1L, scriptService.stats().getCompilationLimitTriggered());
+        assertSettingDeprecationsAndWarnings(new Setting<?>[]{SCRIPT_GENERAL_CACHE_SIZE_SETTING,
+            SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING});
+    }
+
+    public void testIndexedScriptHasSeparateCompilationRateShare() throws IOException {
+        Settings.Builder builder = Settings.builder()
+            .put(SCRIPT_GENERAL_CACHE_SIZE_SETTING.getKey(), 1)
+            .put(SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING.getKey(), "2/1m")
+            .put(ScriptService.SCRIPT_STORED_COMPILATIONS_RATE_SHARE_SETTING.getKey(), 0.5);
+        buildScriptService(builder.build());
+        ScriptContext<?> context = randomFrom(contexts.values());
+        scriptService.compile(new Script(ScriptType.STORED, null, "script", Collections.emptyMap()), context);
+        // the stored script compilation didn't use up the share of inline scripts
+        scriptService.compile(new Script(ScriptType.INLINE, "test", "2+2", Collections.emptyMap()), context);
+        // the stored script was evicted by the inline script, and recompiling it is limited as well
+        GeneralScriptException e = expectThrows(GeneralScriptException.class,
+            () -> scriptService.compile(new Script(ScriptType.STORED, null, "script", Collections.emptyMap()), context));
+        assertThat(e.getCause(), instanceOf(CircuitBreakingException.class));
+        assertThat(e.getCause().getMessage(), containsString("Too many stored script compilations"));
+        e = expectThrows(GeneralScriptException.class,
+            () -> scriptService.compile(new Script(ScriptType.INLINE, "test", "3+3", Collections.emptyMap()), context));
+        assertThat(e.getCause().getMessage(), containsString("Too many dynamic script compilations"));
+        assertEquals(2L, scriptService.stats().getCompilations());
+        assertEquals(2L, scriptService.stats().getCompilationLimitTriggered());
+        assertSettingDeprecationsAndWarnings(new Setting<?>[]{SCRIPT_GENERAL_CACHE_SIZE_SETTING,
+            SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING});
+    }
+
     public void testCacheEvictionCountedInCacheEvictionsStats() throws IOException {
         Settings.Builder builder = Settings.builder();
         builder.put(SCRIPT_GENERAL_CACHE_SIZE_SETTING.getKey(), 1);
@@ -52,9 +52,12 @@ import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.common.Strings;
 import org.opensearch.common.UUIDs;
+import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.index.Index;
@@ -75,6 +78,7 @@ import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.SearchOperationListener;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.indices.settings.InternalOrPrivateSettingsPlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.plugins.SearchPlugin;
@@ -99,6 +103,7 @@ import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.suggest.SuggestBuilder;
+import org.opensearch.tasks.TaskResultsService;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
 import org.opensearch.threadpool.ThreadPool;
 import org.junit.Before;
@@ -116,6 +121,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import static java.util.Collections.singletonList;
@@ -189,19 +195,32 @@ public class SearchServiceTests extends OpenSearchSingleNodeTestCase {
         @Override
         public void onIndexModule(IndexModule indexModule) {
             indexModule.addSearchOperationListener(new SearchOperationListener() {
+                // the context whose query phase last ran on the current thread
+                private final ThreadLocal<SearchContext> queriedContext = new ThreadLocal<>();
+
                 @Override
                 public void onFetchPhase(SearchContext context, long tookInNanos) {
+                    // a fetch that runs right after the query phase of the same context stays on the query's thread
+                    final boolean afterQueryPhase = queriedContext.get() == context;
+                    queriedContext.remove();
                     if ("throttled_threadpool_index".equals(context.indexShard().shardId().getIndex().getName())) {
                         assertThat(Thread.currentThread().getName(), startsWith("opensearch[node_s_0][search_throttled]"));
-                    } else {
+                    } else if (context.indexShard().isSystem()) {
+                        assertThat(Thread.currentThread().getName(), startsWith("opensearch[node_s_0][system_read]"));
+                    } else if (afterQueryPhase) {
                         assertThat(Thread.currentThread().getName(), startsWith("opensearch[node_s_0][search]"));
+                    } else {
+                        assertThat(Thread.currentThread().getName(), startsWith("opensearch[node_s_0][search_fetch]"));
                     }
                 }
 
                 @Override
                 public void onQueryPhase(SearchContext context, long tookInNanos) {
+                    queriedContext.set(context);
                     if ("throttled_threadpool_index".equals(context.indexShard().shardId().getIndex().getName())) {
                         assertThat(Thread.currentThread().getName(), startsWith("opensearch[node_s_0][search_throttled]"));
+                    } else if (context.indexShard().isSystem()) {
+                        assertThat(Thread.currentThread().getName(), startsWith("opensearch[node_s_0][system_read]"));
                     } else {
                         assertThat(Thread.currentThread().getName(), startsWith("opensearch[node_s_0][search]"));
                     }
@@ -586,6 +605,33 @@ public class SearchServiceTests extends OpenSearchSingleNodeTestCase {
         service.freeAllScrollContexts();
     }
 
+    public void testScrollContextMemoryIsAccountedOnRequestBreaker() throws Exception {
+        createIndex("index");
+        final SearchService service = getInstanceFromNode(SearchService.class);
+        final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
+        final IndexService indexService = indicesService.indexServiceSafe(resolveIndex("index"));
+        final IndexShard indexShard = indexService.getShard(0);
+        final CircuitBreaker breaker = getInstanceFromNode(CircuitBreakerService.class).getBreaker(CircuitBreaker.REQUEST);
+
+        client().admin().cluster().prepareUpdateSettings()
+            .setTransientSettings(Settings.builder().put(SearchService.SCROLL_CONTEXT_MEMORY_ESTIMATE.getKey(), "1mb"))
+            .get();
+        try {
+            final long usedBefore = breaker.getUsed();
+            final ShardScrollRequestTest request = new ShardScrollRequestTest(indexShard.shardId());
+            ReaderContext readerContext = service.createAndPutReaderContext(
+                request, indexService, indexShard, indexShard.acquireSearcherSupplier(), randomBoolean());
+            assertEquals(usedBefore + new ByteSizeValue(1, ByteSizeUnit.MB).getBytes(), breaker.getUsed());
+
+            assertTrue(service.freeReaderContext(readerContext.id()));
+            assertEquals(usedBefore, breaker.getUsed());
+        } finally {
+            client().admin().cluster().prepareUpdateSettings()
+                .setTransientSettings(Settings.builder().putNull(SearchService.SCROLL_CONTEXT_MEMORY_ESTIMATE.getKey()))
+                .get();
+        }
+    }
+
     public void testOpenScrollContextsConcurrently() throws Exception {
         createIndex("index");
         final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
@@ -1019,6 +1065,46 @@ public class SearchServiceTests extends OpenSearchSingleNodeTestCase {
         }
     }
 
+    public void testFetchPhaseExecutor() throws Exception {
+        createIndex("index");
+        client().prepareIndex("index", "_doc").setSource("field", "value").setRefreshPolicy(IMMEDIATE).get();
+        assertThat(executeFetchPhaseThreadName("index"), startsWith("opensearch[node_s_0][search_fetch]"));
+
+        // system indices keep using their own pool for the fetch phase
+        createIndex(TaskResultsService.TASK_INDEX);
+        client().prepareIndex(TaskResultsService.TASK_INDEX, "_doc").setSource("field", "value").setRefreshPolicy(IMMEDIATE).get();
+        assertThat(executeFetchPhaseThreadName(TaskResultsService.TASK_INDEX), startsWith("opensearch[node_s_0][system_read]"));
+    }
+
+    /**
+     * Runs the query phase and then the fetch phase for the first hit on the only shard of the given index, and returns the name of
+     * the thread that the fetch phase completed on.
+     */
+    private String executeFetchPhaseThreadName(String index) throws Exception {
+        final SearchService service = getInstanceFromNode(SearchService.class);
+        final IndexShard indexShard = getInstanceFromNode(IndicesService.class).indexServiceSafe(resolveIndex(index)).getShard(0);
+        final SearchShardTask task = new SearchShardTask(123L, "", "", "", null, Collections.emptyMap());
+        // more than one shard so that the query phase doesn't fetch the hits right away
+        final ShardSearchRequest request = new ShardSearchRequest(OriginalIndices.NONE, new SearchRequest().allowPartialSearchResults(true),
+            indexShard.shardId(), 2, new AliasFilter(null, Strings.EMPTY_ARRAY), 1.0f, -1, null, null);
+        final PlainActionFuture<SearchPhaseResult> queryResult = new PlainActionFuture<>();
+        service.executeQueryPhase(request, randomBoolean(), task, queryResult);
+        final SearchPhaseResult searchPhaseResult = queryResult.get();
+        assertThat(searchPhaseResult, instanceOf(QuerySearchResult.class));
+
+        final IntArrayList docIds = new IntArrayList(1);
+        docIds.add(0);
+        final ShardFetchRequest fetchRequest = new ShardFetchRequest(searchPhaseResult.getContextId(), docIds, null/* not a scroll */);
+        final AtomicReference<String> threadName = new AtomicReference<>();
+        final PlainActionFuture<FetchSearchResult> fetchResult = new PlainActionFuture<>();
+        service.executeFetchPhase(fetchRequest, task, ActionListener.wrap(result -> {
+            threadName.set(Thread.currentThread().getName());
+            fetchResult.onResponse(result);
+        }, fetchResult::onFailure));
+        assertThat(fetchResult.get().hits().getHits().length, equalTo(1));
+        return threadName.get();
+    }
+
     public void testDeleteIndexWhileSearch() throws Exception {
         createIndex("test");
         int numDocs = randomIntBetween(1, 20);
@@ -42,7 +42,7 @@ public class FetchPhaseTests extends OpenSearchTestCase {
             docs[i] = new FetchPhase.DocIdToIndex(start, i);
             ++ start;
         }
-        assertTrue(FetchPhase.hasSequentialDocs(docs));
+        assertTrue(FetchPhase.hasSequentialDocs(docs, 0, docs.length));
 
         int from = randomIntBetween(0, 9);
         start = docs[from].docId;
@@ -50,6 +50,26 @@ public class FetchPhaseTests extends OpenSearchTestCase {
             start += randomIntBetween(2, 10);
             docs[i] = new FetchPhase.DocIdToIndex(start, i);
         }
-        assertFalse(FetchPhase.hasSequentialDocs(docs));
+        assertFalse(FetchPhase.hasSequentialDocs(docs, 0, docs.length));
+    }
+
+    public void testSequentialDocsInRange() {
+        FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[20];
+        int start = randomIntBetween(0, Short.MAX_VALUE);
+        for (int i = 0; i < 10; i++) {
+            docs[i] = new FetchPhase.DocIdToIndex(start, i);
+            ++ start;
+        }
+        // a gap between the two ranges, e.g. because of deleted docs or docs that didn't match
+        start += randomIntBetween(1, 10);
+        for (int i = 10; i < 20; i++) {
+            docs[i] = new FetchPhase.DocIdToIndex(start, i);
+            ++ start;
+        }
+        assertFalse(FetchPhase.hasSequentialDocs(docs, 0, docs.length));
+        assertTrue(FetchPhase.hasSequentialDocs(docs, 0, 10));
+        assertTrue(FetchPhase.hasSequentialDocs(docs, 10, 20));
+        assertFalse(FetchPhase.hasSequentialDocs(docs, 5, 15));
+        assertFalse(FetchPhase.hasSequentialDocs(docs, 5, 5));
     }
 }
@@ -42,6 +42,7 @@ import org.opensearch.search.SearchHit;
 import org.opensearch.search.fetch.FetchContext;
 import org.opensearch.search.fetch.FetchSubPhase.HitContext;
 import org.opensearch.search.fetch.FetchSubPhaseProcessor;
+import org.opensearch.search.fetch.subphase.highlight.SearchHighlightContext;
 import org.opensearch.search.lookup.SourceLookup;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -143,6 +144,27 @@ public class FetchSourcePhaseTests extends OpenSearchTestCase {
             "for index [index]", e.getMessage());
     }
 
+    public void testSourceFilteringWithHighlighting() throws IOException {
+        XContentBuilder source = XContentFactory.jsonBuilder().startObject()
+            .field("field1", "value")
+            .field("field2", "value2")
+            .endObject();
+
+        // without any other consumer of the source, it is filtered while parsing and not kept around
+        HitContext hitContext = hitExecuteMultiple(source, true, new String[]{"field1"}, null, null, null);
+        assertEquals(Collections.singletonMap("field1", "value"), hitContext.hit().getSourceAsMap());
+        assertNull(hitContext.sourceLookup().source());
+
+        // highlighting reads the whole source later on, so it is parsed once and the parsed source is reused
+        SearchHighlightContext highlight = new SearchHighlightContext(Collections.emptyList());
+        hitContext = hitExecuteMultiple(source, true, new String[]{"field1"}, null, null, highlight);
+        assertEquals(Collections.singletonMap("field1", "value"), hitContext.hit().getSourceAsMap());
+        Map<String, Object> parsedSource = hitContext.sourceLookup().source();
+        assertNotNull(parsedSource);
+        assertEquals("value2", parsedSource.get("field2"));
+        assertSame(parsedSource, hitContext.sourceLookup().loadSourceIfNeeded());
+    }
+
     private HitContext hitExecute(XContentBuilder source, boolean fetchSource, String include, String exclude) throws IOException {
         return hitExecute(source, fetchSource, include, exclude, null);
     }
@@ -161,10 +183,16 @@ public class FetchSourcePhaseTests extends OpenSearchTestCase {
 
     private HitContext hitExecuteMultiple(XContentBuilder source, boolean fetchSource, String[] includes, String[] excludes,
                                                             SearchHit.NestedIdentity nestedIdentity) throws IOException {
+        return hitExecuteMultiple(source, fetchSource, includes, excludes, nestedIdentity, null);
+    }
+
+    private HitContext hitExecuteMultiple(XContentBuilder source, boolean fetchSource, String[] includes, String[] excludes,
+                                          SearchHit.NestedIdentity nestedIdentity, SearchHighlightContext highlight) throws IOException {
         FetchSourceContext fetchSourceContext = new FetchSourceContext(fetchSource, includes, excludes);
         FetchContext fetchContext = mock(FetchContext.class);
         when(fetchContext.fetchSourceContext()).thenReturn(fetchSourceContext);
         when(fetchContext.getIndexName()).thenReturn("index");
+        when(fetchContext.highlight()).thenReturn(highlight);
 
         final SearchHit searchHit = new SearchHit(1, null, null, nestedIdentity, null, null);
 
@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch.subphase.highlight;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.TextFieldMapper;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.fetch.FetchSubPhase.HitContext;
+import org.opensearch.search.lookup.SourceLookup;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class HighlightUtilsTests extends OpenSearchTestCase {
+
+    public void testPreloadedStoredFieldsMatchPerFieldLoading() throws IOException {
+        MappedFieldType title = new TextFieldMapper.TextFieldType("title", true, true, Collections.emptyMap());
+        MappedFieldType body = new TextFieldMapper.TextFieldType("body", true, true, Collections.emptyMap());
+        Set<String> storedFields = new HashSet<>(Arrays.asList(title.name(), body.name()));
+
+        List<Map<String, Object>> sources = Arrays.asList(
+            sourceOf("title", "quick brown fox", "body", Arrays.asList("jumps over", "the lazy dog")),
+            // the second document doesn't have a body
+            sourceOf("title", "lazy dog"));
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig(new StandardAnalyzer()))) {
+                for (Map<String, Object> source : sources) {
+                    Document doc = new Document();
+                    for (Map.Entry<String, Object> entry : source.entrySet()) {
+                        List<?> values = entry.getValue() instanceof List ? (List<?>) entry.getValue()
+                            : Collections.singletonList(entry.getValue());
+                        for (Object value : values) {
+                            doc.add(new Field(entry.getKey(), value.toString(), TextField.TYPE_STORED));
+                        }
+                    }
+                    writer.addDocument(doc);
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                assertThat(reader.leaves().size(), equalTo(1));
+                LeafReaderContext leaf = reader.leaves().get(0);
+                for (int docId = 0; docId < sources.size(); docId++) {
+                    Map<String, Object> source = sources.get(docId);
+                    HitContext preloaded = hitContext(leaf, docId, source);
+                    HighlightUtils.preloadStoredFields(storedFields, preloaded);
+                    HitContext perField = hitContext(leaf, docId, source);
+                    for (MappedFieldType fieldType : Arrays.asList(title, body)) {
+                        List<Object> expected = HighlightUtils.loadFieldValues(fieldType, perField, false);
+                        assertThat(HighlightUtils.loadFieldValues(fieldType, preloaded, false), equalTo(expected));
+                        assertThat(expected, equalTo(valuesOf(source, fieldType.name())));
+
+                        // forcing the source ignores the preloaded stored fields
+                        expected = HighlightUtils.loadFieldValues(fieldType, perField, true);
+                        assertThat(HighlightUtils.loadFieldValues(fieldType, preloaded, true), equalTo(expected));
+                        assertThat(expected, equalTo(valuesOf(source, fieldType.name())));
+                    }
+                    // loading field by field doesn't keep anything on the hit
+                    assertNull(perField.preloadedStoredFields());
+                }
+            }
+        }
+    }
+
+    public void testOnlyPlainAndUnifiedHighlightersReadPreloadedStoredFields() {
+        assertTrue(HighlightPhase.readsStoredFieldsThroughHighlightUtils(new PlainHighlighter()));
+        assertTrue(HighlightPhase.readsStoredFieldsThroughHighlightUtils(new UnifiedHighlighter()));
+        assertFalse(HighlightPhase.readsStoredFieldsThroughHighlightUtils(new FastVectorHighlighter(Settings.EMPTY)));
+        assertFalse(HighlightPhase.readsStoredFieldsThroughHighlightUtils(new CustomHighlighter()));
+    }
+
+    private static HitContext hitContext(LeafReaderContext leaf, int docId, Map<String, Object> source) {
+        SourceLookup sourceLookup = new SourceLookup();
+        sourceLookup.setSource(source);
+        return new HitContext(new SearchHit(docId), leaf, docId, sourceLookup);
+    }
+
+    private static Map<String, Object> sourceOf(Object... fieldsAndValues) {
+        Map<String, Object> source = new HashMap<>();
+        for (int i = 0; i < fieldsAndValues.length; i += 2) {
+            source.put((String) fieldsAndValues[i], fieldsAndValues[i + 1]);
+        }
+        return source;
+    }
+
+    private static List<Object> valuesOf(Map<String, Object> source, String field) {
+        Object value = source.get(field);
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        return value instanceof List ? new ArrayList<>((List<?>) value) : Collections.singletonList(value);
+    }
+}
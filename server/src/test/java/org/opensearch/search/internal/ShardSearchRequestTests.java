@@ -56,6 +56,7 @@ import org.opensearch.indices.InvalidAliasNameException;
 import org.opensearch.search.AbstractSearchTestCase;
 import org.opensearch.test.VersionUtils;
 import org.opensearch.search.SearchSortValuesAndFormatsTests;
+import org.opensearch.search.builder.SearchSourceBuilder;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -78,6 +79,43 @@ public class ShardSearchRequestTests extends AbstractSearchTestCase {
         assertEquals(shardSearchTransportRequest, deserializedRequest);
     }
 
+    public void testSerializationWithSerializedSourceCache() throws Exception {
+        ShardSearchRequest.SerializedSourceCache cache = new ShardSearchRequest.SerializedSourceCache();
+        ShardSearchRequest request = createShardSearchRequest();
+        request.setSerializedSourceCache(cache);
+        ShardSearchRequest other = new ShardSearchRequest(request);
+        other.setSerializedSourceCache(cache);
+        assertEquals(request, copyWriteable(request, namedWriteableRegistry, ShardSearchRequest::new));
+        assertEquals(other, copyWriteable(other, namedWriteableRegistry, ShardSearchRequest::new));
+
+        // a rewritten source must not reuse the bytes of the previous one
+        other.source(createSearchSourceBuilder());
+        assertEquals(other, copyWriteable(other, namedWriteableRegistry, ShardSearchRequest::new));
+        assertEquals(request, copyWriteable(request, namedWriteableRegistry, ShardSearchRequest::new));
+    }
+
+    public void testSerializedSourceCacheWithLocalRewrite() throws Exception {
+        ShardSearchRequest.SerializedSourceCache cache = new ShardSearchRequest.SerializedSourceCache();
+        ShardSearchRequest request = createShardSearchRequest();
+        request.setSerializedSourceCache(cache);
+        ShardSearchRequest remote = new ShardSearchRequest(request);
+        remote.setSerializedSourceCache(cache);
+        // the request of a remote shard is serialized, and fills the cache
+        assertEquals(remote, copyWriteable(remote, namedWriteableRegistry, ShardSearchRequest::new));
+        assertEquals(new ShardSearchRequest(remote).cacheKey(), remote.cacheKey());
+
+        // the request of a local shard reaches the data node without being serialized, and is rewritten there
+        SearchSourceBuilder rewritten = createSearchSourceBuilder();
+        request.source(rewritten);
+        assertEquals(new ShardSearchRequest(request).cacheKey(), request.cacheKey());
+        ShardSearchRequest deserialized = copyWriteable(request, namedWriteableRegistry, ShardSearchRequest::new);
+        assertEquals(request, deserialized);
+        assertEquals(rewritten, deserialized.source());
+
+        // the other requests of the search still serialize the original source
+        assertEquals(remote, copyWriteable(remote, namedWriteableRegistry, ShardSearchRequest::new));
+    }
+
     public void testClone() throws Exception {
         for (int i = 0; i < 10; i++) {
             ShardSearchRequest shardSearchTransportRequest = createShardSearchRequest();
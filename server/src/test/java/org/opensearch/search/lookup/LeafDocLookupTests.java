@@ -39,11 +39,15 @@ import org.opensearch.index.mapper.MapperService;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
 
+import java.io.IOException;
+
 import static org.opensearch.search.lookup.LeafDocLookup.TYPES_DEPRECATION_MESSAGE;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class LeafDocLookupTests extends OpenSearchTestCase {
@@ -82,6 +86,18 @@ public class LeafDocLookupTests extends OpenSearchTestCase {
         assertEquals(docValues, fetchedDocValues);
     }
 
+    public void testDocValuesAdvancedOncePerDocument() throws IOException {
+        docLookup.setDocument(1);
+        docLookup.get("field");
+        docLookup.get("field");
+        verify(docValues, times(1)).setNextDocId(1);
+
+        docLookup.setDocument(2);
+        docLookup.get("field");
+        docLookup.get("field");
+        verify(docValues, times(1)).setNextDocId(2);
+    }
+
     public void testTypesDeprecation() {
         ScriptDocValues<?> fetchedDocValues = docLookup.get("_type");
         assertEquals(docValues, fetchedDocValues);
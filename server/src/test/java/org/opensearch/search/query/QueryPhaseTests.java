@@ -102,9 +102,11 @@ import org.opensearch.index.search.OpenSearchToParentBlockJoinQuery;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardTestCase;
 import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchSortValuesAndFormats;
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.ScrollContext;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.sort.SortAndFormats;
 import org.opensearch.tasks.TaskCancelledException;
 import org.opensearch.test.TestSearchContext;
@@ -789,6 +791,82 @@ public class QueryPhaseTests extends IndexShardTestCase {
         dir.close();
     }
 
+    public void testNumericSortPruningWithSearchAfterAndScroll() throws Exception {
+        final String fieldNameLong = "long-field";
+        MappedFieldType fieldTypeLong = new NumberFieldMapper.NumberFieldType(fieldNameLong, NumberFieldMapper.NumberType.LONG);
+        MapperService mapperService = mock(MapperService.class);
+        when(mapperService.fieldType(fieldNameLong)).thenReturn(fieldTypeLong);
+        final int numDocs = 2000;
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig(null));
+        List<Long> values = new ArrayList<>();
+        for (long i = 0; i < numDocs; ++i) {
+            values.add(i);
+        }
+        Collections.shuffle(values, random());
+        for (int i = 0; i < numDocs; ++i) {
+            Document doc = new Document();
+            doc.add(new LongPoint(fieldNameLong, values.get(i)));
+            doc.add(new NumericDocValuesField(fieldNameLong, values.get(i)));
+            writer.addDocument(doc);
+            if (i % 500 == 0) writer.commit();
+        }
+        writer.close();
+        final IndexReader reader = DirectoryReader.open(dir);
+
+        final boolean reverse = randomBoolean();
+        final SortField sortFieldLong = new SortField(fieldNameLong, SortField.Type.LONG, reverse);
+        sortFieldLong.setMissingValue(reverse ? Long.MIN_VALUE : Long.MAX_VALUE);
+        final long afterValue = randomLongBetween(100, numDocs - 100);
+        final long bottomValue = reverse ? afterValue - 50 : afterValue + 50;
+        ShardSearchRequest shardRequest = mock(ShardSearchRequest.class);
+        when(shardRequest.getBottomSortValues()).thenReturn(
+            new SearchSortValuesAndFormats(new Object[] { bottomValue }, new DocValueFormat[] { DocValueFormat.RAW }));
+
+        TestSearchContext searchContext = spy(new TestSearchContext(null, indexShard, newContextSearcher(reader)));
+        when(searchContext.mapperService()).thenReturn(mapperService);
+        when(searchContext.searchAfter()).thenReturn(new FieldDoc(Integer.MAX_VALUE, Float.NaN, new Object[] { afterValue }));
+        when(searchContext.request()).thenReturn(shardRequest);
+        searchContext.sort(new SortAndFormats(new Sort(sortFieldLong), new DocValueFormat[] { DocValueFormat.RAW }));
+        searchContext.parsedQuery(new ParsedQuery(new MatchAllDocsQuery()));
+        searchContext.setTask(new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()));
+        searchContext.setSize(10);
+
+        // hits are counted so the query cannot be pruned
+        searchContext.trackTotalHitsUpTo(SearchContext.TRACK_TOTAL_HITS_ACCURATE);
+        assertNull(QueryPhase.tryPruneNonCompetitiveLongSort(searchContext, reader, new MatchAllDocsQuery()));
+
+        searchContext.trackTotalHitsUpTo(SearchContext.TRACK_TOTAL_HITS_DISABLED);
+        Query pruned = QueryPhase.tryPruneNonCompetitiveLongSort(searchContext, reader, new MatchAllDocsQuery());
+        assertNotNull(pruned);
+        assertEquals(51, newSearcher(reader).count(pruned));
+
+        QueryPhase.executeInternal(searchContext);
+        ScoreDoc[] scoreDocs = searchContext.queryResult().topDocs().topDocs.scoreDocs;
+        assertEquals(10, scoreDocs.length);
+        for (int i = 0; i < scoreDocs.length; i++) {
+            long expected = reverse ? afterValue - 1 - i : afterValue + 1 + i;
+            assertEquals(expected, ((FieldDoc) scoreDocs[i]).fields[0]);
+        }
+
+        // scroll pages after the first one resume after the last emitted doc
+        ScrollContext scrollContext = new ScrollContext();
+        TestSearchContext scrollSearchContext =
+            spy(new TestSearchContext(null, indexShard, newContextSearcher(reader), scrollContext));
+        when(scrollSearchContext.mapperService()).thenReturn(mapperService);
+        scrollSearchContext.sort(new SortAndFormats(new Sort(sortFieldLong), new DocValueFormat[] { DocValueFormat.RAW }));
+        scrollSearchContext.setSize(10);
+        assertNull(QueryPhase.tryPruneNonCompetitiveLongSort(scrollSearchContext, reader, new MatchAllDocsQuery()));
+        scrollContext.totalHits = new TotalHits(numDocs, TotalHits.Relation.EQUAL_TO);
+        scrollContext.lastEmittedDoc = new FieldDoc(Integer.MAX_VALUE, Float.NaN, new Object[] { afterValue });
+        pruned = QueryPhase.tryPruneNonCompetitiveLongSort(scrollSearchContext, reader, new MatchAllDocsQuery());
+        assertNotNull(pruned);
+        assertEquals(reverse ? afterValue + 1 : numDocs - afterValue, newSearcher(reader).count(pruned));
+
+        reader.close();
+        dir.close();
+    }
+
     public void testIndexHasDuplicateData() throws IOException {
         int docsCount = 5000;
         int maxPointsInLeafNode = 40;
@@ -35,11 +35,13 @@ package org.opensearch.threadpool;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.common.util.concurrent.OpenSearchThreadPoolExecutor;
 import org.opensearch.threadpool.ThreadPool.Names;
 
 import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 
 public class FixedThreadPoolTests extends OpenSearchThreadPoolTestCase {
 
@@ -108,4 +110,30 @@ public class FixedThreadPoolTests extends OpenSearchThreadPoolTestCase {
         }
     }
 
+    public void testSearchFetchThreadPoolConfiguration() throws InterruptedException {
+        final int processors = randomIntBetween(1, 64);
+        ThreadPool threadPool = null;
+        try {
+            threadPool = new ThreadPool(Settings.builder()
+                .put("node.name", "testSearchFetchThreadPoolConfiguration")
+                .put("node.processors", processors)
+                .build());
+            assertThat(ThreadPool.THREAD_POOL_TYPES.get(Names.SEARCH_FETCH), equalTo(ThreadPool.ThreadPoolType.FIXED));
+            final ThreadPool.Info info = info(threadPool, Names.SEARCH_FETCH);
+            assertThat(info.getThreadPoolType(), equalTo(ThreadPool.ThreadPoolType.FIXED));
+            final int expectedSize = ThreadPool.searchThreadPoolSize(processors);
+            assertThat(info.getMin(), equalTo(expectedSize));
+            assertThat(info.getMax(), equalTo(expectedSize));
+            assertThat(info.getQueueSize().singles(), equalTo(1000L));
+            assertThat(threadPool.executor(Names.SEARCH_FETCH), instanceOf(OpenSearchThreadPoolExecutor.class));
+            final OpenSearchThreadPoolExecutor executor = (OpenSearchThreadPoolExecutor) threadPool.executor(Names.SEARCH_FETCH);
+            assertThat(executor.getCorePoolSize(), equalTo(expectedSize));
+            assertThat(executor.getMaximumPoolSize(), equalTo(expectedSize));
+            // the fetch pool must not be shared with the query phase
+            assertNotSame(threadPool.executor(Names.SEARCH), executor);
+        } finally {
+            terminateThreadPoolIfNeeded(threadPool);
+        }
+    }
+
 }
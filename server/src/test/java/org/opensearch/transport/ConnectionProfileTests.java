@@ -171,6 +171,25 @@ public class ConnectionProfileTests extends OpenSearchTestCase {
         expectThrows(IllegalStateException.class, () -> build.getHandles().get(1).getChannel(array));
     }
 
+    public void testGetChannelPrefersChannelsWithoutPendingBytes() {
+        ConnectionProfile.Builder builder = new ConnectionProfile.Builder();
+        builder.addConnections(4, TransportRequestOptions.Type.BULK,
+            TransportRequestOptions.Type.STATE,
+            TransportRequestOptions.Type.RECOVERY,
+            TransportRequestOptions.Type.REG,
+            TransportRequestOptions.Type.PING);
+        ConnectionProfile.ConnectionTypeHandle handle = builder.build().getHandles().get(0);
+        List<Integer> channels = Arrays.asList(0, 1, 2, 3);
+        long[] pendingBytes = new long[] { 1024, 0, 512, 2048 };
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Integer.valueOf(1), handle.getChannel(channels, channel -> pendingBytes[channel]));
+        }
+        pendingBytes[1] = 4096;
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Integer.valueOf(2), handle.getChannel(channels, channel -> pendingBytes[channel]));
+        }
+    }
+
     public void testConnectionProfileResolve() {
         final ConnectionProfile defaultProfile = ConnectionProfile.buildDefaultConnectionProfile(Settings.EMPTY);
         assertEquals(defaultProfile, ConnectionProfile.resolveConnectionProfile(null, defaultProfile));
@@ -52,8 +52,11 @@ import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
@@ -95,7 +98,7 @@ public class InboundPipelineTests extends OpenSearchTestCase {
             }
         };
 
-        final StatsTracker statsTracker = new StatsTracker();
+        final StatsTracker statsTracker = new StatsTracker(action -> true);
         final LongSupplier millisSupplier = () -> TimeValue.nsecToMSec(System.nanoTime());
         final InboundDecoder decoder = new InboundDecoder(Version.CURRENT, PageCacheRecycler.NON_RECYCLING_INSTANCE);
         final String breakThisAction = "break_this_action";
@@ -110,6 +113,8 @@ public class InboundPipelineTests extends OpenSearchTestCase {
         final int iterations = randomIntBetween(100, 500);
         long totalMessages = 0;
         long bytesReceived = 0;
+        final Map<String, Long> requestsReceived = new HashMap<>();
+        final Map<String, Long> requestBytesReceived = new HashMap<>();
 
         for (int i = 0; i < iterations; ++i) {
             actual.clear();
@@ -146,6 +151,12 @@ public class InboundPipelineTests extends OpenSearchTestCase {
 
                     expected.add(new Tuple<>(messageData, expectedExceptionClass));
                     final BytesReference reference = message.serialize(new BytesStreamOutput());
+                    if (isRequest) {
+                        final String action = messageData.actionName;
+                        requestsReceived.merge(action, 1L, Long::sum);
+                        requestBytesReceived.merge(action, (long) reference.length() - TcpHeader.BYTES_REQUIRED_FOR_MESSAGE_SIZE,
+                            Long::sum);
+                    }
                     Streams.copy(reference.streamInput(), streamOutput);
                 }
 
@@ -187,6 +198,15 @@ public class InboundPipelineTests extends OpenSearchTestCase {
 
             assertEquals(bytesReceived, statsTracker.getBytesRead());
             assertEquals(totalMessages, statsTracker.getMessagesReceived());
+            final Map<String, TransportActionStats> actionStats = statsTracker.getActionStats();
+            assertEquals(requestsReceived.keySet(), actionStats.keySet());
+            for (Map.Entry<String, Long> entry : requestsReceived.entrySet()) {
+                final TransportActionStats stats = actionStats.get(entry.getKey());
+                assertEquals(entry.getValue().longValue(), stats.getRequestCount());
+                assertEquals(requestBytesReceived.get(entry.getKey()).longValue(), stats.getRequestSize().getBytes());
+                assertEquals(entry.getValue().longValue(), Arrays.stream(stats.getHandlingTimeHistogram()).sum());
+                assertEquals(0L, stats.getResponseCount());
+            }
         }
     }
 
@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Collections;
+
+public class StatsTrackerTests extends OpenSearchTestCase {
+
+    public void testActionStatsOnlyForRegisteredActions() {
+        final String registeredAction = "internal:registered";
+        final StatsTracker statsTracker = new StatsTracker(registeredAction::equals);
+
+        final int unknownActions = randomIntBetween(1, 20);
+        for (int i = 0; i < unknownActions; i++) {
+            final String action = "internal:unknown_" + i;
+            statsTracker.markRequestReceived(action, randomIntBetween(1, 1024), randomNonNegativeLong());
+            statsTracker.markResponseSent(action, randomIntBetween(1, 1024));
+        }
+        assertEquals(Collections.emptyMap(), statsTracker.getActionStats());
+
+        statsTracker.markRequestReceived(registeredAction, 10, 1000);
+        statsTracker.markResponseSent(registeredAction, 20);
+        assertEquals(Collections.singleton(registeredAction), statsTracker.getActionStats().keySet());
+        final TransportActionStats stats = statsTracker.getActionStats().get(registeredAction);
+        assertEquals(1, stats.getRequestCount());
+        assertEquals(10, stats.getRequestSize().getBytes());
+        assertEquals(1, stats.getResponseCount());
+    }
+
+    public void testNoActionStatsByDefault() {
+        final StatsTracker statsTracker = new StatsTracker();
+        statsTracker.markRequestReceived("internal:action", 10, 1000);
+        statsTracker.markResponseSent("internal:action", 20);
+        assertEquals(Collections.emptyMap(), statsTracker.getActionStats());
+    }
+}